@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of validation on hostile input.
+ *
+ * <p>Every text repeats a short unit until it has the requested length
+ * and then ends with a wrong character, so the whole text has to be
+ * scanned before it is rejected. Such texts made the regular expression
+ * that was used before fail with {@link StackOverflowError} when they
+ * were just 4096 characters long. The time per operation must grow
+ * linearly with the length, for every shape, and stay flat for texts
+ * longer than {@link Limits#LENGTH}, which are rejected without
+ * scanning.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AdversarialBenchmark {
+
+    /**
+     * The repeated unit: empty segments, percent-escapes, short segments,
+     * long segments or params.
+     */
+    @Param({":", "%41", ":a", "-/", "a=b&"})
+    public String unit;
+
+    /**
+     * Length of the text.
+     */
+    @Param({"256", "1024", "4096", "16384", "65536"})
+    public int length;
+
+    /**
+     * The text.
+     */
+    private String text;
+
+    /**
+     * Prepare the text.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder hostile = new StringBuilder(this.length + 1);
+        if (this.unit.indexOf('=') < 0) {
+            hostile.append("urn:a:");
+        } else {
+            hostile.append("urn:a:b?");
+        }
+        while (hostile.length() + this.unit.length() < this.length) {
+            hostile.append(this.unit);
+        }
+        this.text = hostile.append('!').toString();
+    }
+
+    /**
+     * Validate the text.
+     * @return Is it valid
+     */
+    @Benchmark
+    public boolean isValid() {
+        return URN.isValid(this.text);
+    }
+
+    /**
+     * Validate the text and find what is wrong.
+     * @return The verdict
+     */
+    @Benchmark
+    public Verdict validate() {
+        return URN.validate(this.text, 0, this.text.length());
+    }
+
+}
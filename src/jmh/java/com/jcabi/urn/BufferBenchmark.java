@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of reading URNs from byte buffers and writing them back,
+ * directly and through strings.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BufferBenchmark {
+
+    /**
+     * The corpus to use.
+     */
+    @Param({"SHORT", "LONG", "PARAMS"})
+    public Corpus corpus;
+
+    /**
+     * Use direct buffers.
+     */
+    @Param({"false", "true"})
+    public boolean direct;
+
+    /**
+     * Buffers with URNs, one per URN.
+     */
+    private ByteBuffer[] buffers;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * Buffer to write to.
+     */
+    private ByteBuffer target;
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the buffers.
+     */
+    @Setup
+    public void setup() {
+        final String[] texts = this.corpus.texts();
+        this.buffers = new ByteBuffer[texts.length];
+        this.urns = new URN[texts.length];
+        for (int idx = 0; idx < texts.length; ++idx) {
+            final byte[] bytes = texts[idx].getBytes(StandardCharsets.US_ASCII);
+            this.buffers[idx] = this.allocate(bytes.length);
+            this.buffers[idx].put(bytes).flip();
+            this.urns[idx] = URN.create(texts[idx]);
+        }
+        this.target = this.allocate(Limits.LENGTH);
+    }
+
+    /**
+     * Parse from the buffer, through a string.
+     * @return The URN
+     */
+    @Benchmark
+    public URN parseViaString() {
+        return URN.create(
+            StandardCharsets.US_ASCII.decode(
+                this.buffers[this.next()].duplicate()
+            ).toString()
+        );
+    }
+
+    /**
+     * Parse from the buffer.
+     * @return The URN
+     */
+    @Benchmark
+    public URN parse() {
+        return URN.parse(this.buffers[this.next()]);
+    }
+
+    /**
+     * Validate the buffer, through a string.
+     * @return Is it valid
+     */
+    @Benchmark
+    public boolean isValidViaString() {
+        return URN.isValid(
+            StandardCharsets.US_ASCII.decode(
+                this.buffers[this.next()].duplicate()
+            ).toString()
+        );
+    }
+
+    /**
+     * Validate the buffer.
+     * @return Is it valid
+     */
+    @Benchmark
+    public boolean isValid() {
+        return URN.isValid(this.buffers[this.next()]);
+    }
+
+    /**
+     * Write to the buffer, through a string.
+     * @return The buffer
+     */
+    @Benchmark
+    public ByteBuffer writeViaString() {
+        this.target.clear();
+        return this.target.put(
+            this.urns[this.next()].toString().getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Write to the buffer.
+     * @return The buffer
+     */
+    @Benchmark
+    public ByteBuffer writeTo() {
+        this.target.clear();
+        this.urns[this.next()].writeTo(this.target);
+        return this.target;
+    }
+
+    /**
+     * Make a buffer.
+     * @param size Size of it
+     * @return The buffer
+     */
+    private ByteBuffer allocate(final int size) {
+        final ByteBuffer buffer;
+        if (this.direct) {
+            buffer = ByteBuffer.allocateDirect(size);
+        } else {
+            buffer = ByteBuffer.allocate(size);
+        }
+        return buffer;
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
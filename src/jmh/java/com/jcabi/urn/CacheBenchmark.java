@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of parsing texts, some of which are much more frequent than
+ * others, with and without {@link URNCache}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    /**
+     * Length of the stream of texts.
+     */
+    private static final int STREAM = 1 << 16;
+
+    /**
+     * How many distinct texts there are.
+     */
+    @Param({"1000", "100000"})
+    public int distinct;
+
+    /**
+     * The corpus to take texts from.
+     */
+    @Param({"SHORT", "PARAMS"})
+    public Corpus corpus;
+
+    /**
+     * The stream, skewed towards the first texts of the pool, each of
+     * them a new string, as if it was just read.
+     */
+    private String[] texts;
+
+    /**
+     * The cache.
+     */
+    private URNCache cache;
+
+    /**
+     * Position in the stream.
+     */
+    private int pos;
+
+    /**
+     * Prepare the stream.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(0L);
+        final String[] pool = new String[this.distinct];
+        for (int idx = 0; idx < pool.length; ++idx) {
+            pool[idx] = this.corpus.text(random);
+        }
+        this.texts = new String[CacheBenchmark.STREAM];
+        for (int idx = 0; idx < this.texts.length; ++idx) {
+            final double rnd = random.nextDouble();
+            this.texts[idx] = new String(
+                pool[(int) (rnd * rnd * rnd * this.distinct)]
+            );
+        }
+        this.cache = new URNCache(16_384);
+    }
+
+    /**
+     * Parse every text.
+     * @return The URN
+     */
+    @Benchmark
+    public URN create() {
+        return URN.create(this.texts[this.next()]);
+    }
+
+    /**
+     * Take texts from the cache.
+     * @return The URN
+     */
+    @Benchmark
+    public URN cached() {
+        return this.cache.get(this.texts[this.next()]);
+    }
+
+    /**
+     * Next position in the stream.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (CacheBenchmark.STREAM - 1);
+        return this.pos;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Random;
+
+/**
+ * Corpora of URNs for benchmarks.
+ *
+ * <p>All corpora are generated from a fixed seed, so every run of every
+ * benchmark sees exactly the same texts.
+ *
+ * @since 1.0
+ */
+public enum Corpus {
+
+    /**
+     * Short URNs, like "urn:user:a1b2c3".
+     */
+    SHORT {
+        @Override
+        String text(final Random random) {
+            return String.format("urn:user:%s", Corpus.word(random, 6));
+        }
+    },
+
+    /**
+     * Long URNs with many colon-separated segments.
+     */
+    LONG {
+        @Override
+        String text(final Random random) {
+            final StringBuilder text = new StringBuilder("urn:order");
+            for (int idx = 0; idx < 8; ++idx) {
+                text.append(':').append(Corpus.word(random, 12));
+            }
+            return text.toString();
+        }
+    },
+
+    /**
+     * URNs with many query params.
+     */
+    PARAMS {
+        @Override
+        String text(final Random random) {
+            final StringBuilder text = new StringBuilder("urn:sku:")
+                .append(Corpus.word(random, 8));
+            for (int idx = 0; idx < 10; ++idx) {
+                if (idx == 0) {
+                    text.append('?');
+                } else {
+                    text.append('&');
+                }
+                text.append('p').append(idx).append('=')
+                    .append(random.nextInt(100_000));
+            }
+            return text.toString();
+        }
+    },
+
+    /**
+     * URNs with non-ASCII NSS, percent-encoded.
+     */
+    UNICODE {
+        @Override
+        String text(final Random random) {
+            final StringBuilder nss = new StringBuilder(0);
+            for (int idx = 0; idx < 8; ++idx) {
+                nss.append((char) ('\u4e00' + random.nextInt(0x5000)));
+            }
+            return new URN("intl", nss.toString()).toString();
+        }
+    };
+
+    /**
+     * How many texts are in each corpus.
+     */
+    static final int SIZE = 1024;
+
+    /**
+     * Make all texts of the corpus and register their NID, as applications
+     * do with their namespaces, see {@link URN#register(String)}.
+     * @return Texts
+     */
+    String[] texts() {
+        final Random random = new Random(this.ordinal());
+        final String[] texts = new String[Corpus.SIZE];
+        for (int idx = 0; idx < texts.length; ++idx) {
+            texts[idx] = this.text(random);
+        }
+        URN.register(URN.create(texts[0]).nid());
+        return texts;
+    }
+
+    /**
+     * Make one text.
+     * @param random Source of randomness
+     * @return The text
+     */
+    abstract String text(Random random);
+
+    /**
+     * Make a random word of letters and digits.
+     * @param random Source of randomness
+     * @param length Length of the word
+     * @return The word
+     */
+    private static String word(final Random random, final int length) {
+        final String chars = "abcdefghijklmnopqrstuvwxyz0123456789";
+        final char[] word = new char[length];
+        for (int idx = 0; idx < length; ++idx) {
+            word[idx] = chars.charAt(random.nextInt(chars.length()));
+        }
+        return new String(word);
+    }
+
+}
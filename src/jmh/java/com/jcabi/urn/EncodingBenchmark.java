@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of percent-encoding in {@link URN}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public class EncodingBenchmark {
+
+    /**
+     * Kind of NSS to encode.
+     */
+    @Param({"ascii", "mixed", "cjk"})
+    public String kind;
+
+    /**
+     * NSS to encode.
+     */
+    private String nss;
+
+    /**
+     * The URN to add params to.
+     */
+    private URN urn;
+
+    /**
+     * Prepare the NSS.
+     */
+    @Setup
+    public void setup() {
+        if ("ascii".equals(this.kind)) {
+            this.nss = "order/2024/10/a1b2c3d4-e5f6-7890";
+        } else if ("mixed".equals(this.kind)) {
+            this.nss = "order 2024, \u00e9t\u00e9: a1b2c3d4 & e5f6!";
+        } else {
+            this.nss = "\u8ba2\u5355\u4e2d\u6587\u540d\u79f0\u6d4b\u8bd5";
+        }
+        this.urn = URN.create("urn:test:benchmark");
+    }
+
+    /**
+     * Make a URN from NID and NSS.
+     * @return The URN
+     */
+    @Benchmark
+    public URN fromComponents() {
+        return new URN("test", this.nss);
+    }
+
+    /**
+     * Add a param to a URN.
+     * @return The URN
+     */
+    @Benchmark
+    public URN withParam() {
+        return this.urn.param("name", this.nss);
+    }
+
+}
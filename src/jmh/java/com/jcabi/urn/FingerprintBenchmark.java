@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of 64-bit fingerprints of texts, bytes and URNs.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class FingerprintBenchmark {
+
+    /**
+     * The corpus.
+     */
+    @Param({"SHORT", "LONG"})
+    public Corpus corpus;
+
+    /**
+     * Texts of URNs.
+     */
+    private String[] texts;
+
+    /**
+     * Bytes of the texts.
+     */
+    private byte[][] bytes;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the corpus.
+     */
+    @Setup
+    public void setup() {
+        this.texts = this.corpus.texts();
+        this.bytes = new byte[this.texts.length][];
+        this.urns = new URN[this.texts.length];
+        for (int idx = 0; idx < this.texts.length; ++idx) {
+            this.bytes[idx] = this.texts[idx].getBytes(
+                StandardCharsets.US_ASCII
+            );
+            this.urns[idx] = URN.create(this.texts[idx]);
+        }
+    }
+
+    /**
+     * Fingerprint a text.
+     * @return The fingerprint
+     */
+    @Benchmark
+    public long text() {
+        return URNs.fingerprint64(this.texts[this.next()]);
+    }
+
+    /**
+     * Fingerprint bytes.
+     * @return The fingerprint
+     */
+    @Benchmark
+    public long array() {
+        final byte[] array = this.bytes[this.next()];
+        return URNs.fingerprint64(array, 0, array.length);
+    }
+
+    /**
+     * Fingerprint of a URN, memoized after the first call.
+     * @return The fingerprint
+     */
+    @Benchmark
+    public long memoized() {
+        return this.urns[this.next()].fingerprint64();
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
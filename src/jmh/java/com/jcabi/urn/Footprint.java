@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Report of memory footprint of {@link URN} and {@link CompactURN}, and
+ * of maps of URNs.
+ *
+ * <p>For every {@link Corpus} it prints the average number of bytes per
+ * URN, including all objects it references, measured by
+ * <a href="https://github.com/openjdk/jol">JOL</a>: just parsed,
+ * after {@link URN#nss()}, {@link URN#params()} and
+ * {@link URN#hashCode()} were called, and in compact form.
+ * Then it prints the average number of bytes per entry in
+ * {@link URNMap} and in {@link ConcurrentSkipListMap}, with the URNs of
+ * {@link MapBenchmark}. The result is in src/jmh/baseline.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class Footprint {
+
+    /**
+     * Utility class.
+     */
+    private Footprint() {
+        // intentionally empty
+    }
+
+    /**
+     * Entry point.
+     * @param args Ignored
+     */
+    public static void main(final String... args) {
+        System.out.println(VM.current().details());
+        System.out.println(ClassLayout.parseClass(URN.class).toPrintable());
+        System.out.println(
+            ClassLayout.parseClass(CompactURN.class).toPrintable()
+        );
+        System.out.printf(
+            "%-8s %6s %10s %10s %10s%n",
+            "corpus", "chars", "URN", "URN+cache", "CompactURN"
+        );
+        for (final Corpus corpus : Corpus.values()) {
+            final String[] texts = corpus.texts();
+            final URN[] urns = new URN[texts.length];
+            final URN[] warm = new URN[texts.length];
+            final CompactURN[] compact = new CompactURN[texts.length];
+            long chars = 0L;
+            for (int idx = 0; idx < texts.length; ++idx) {
+                chars += texts[idx].length();
+                urns[idx] = URN.create(texts[idx]);
+                warm[idx] = URN.create(texts[idx]);
+                warm[idx].nss();
+                warm[idx].params();
+                warm[idx].hashCode();
+                compact[idx] = urns[idx].compact();
+            }
+            System.out.printf(
+                "%-8s %6d %10d %10d %10d%n",
+                corpus, chars / texts.length,
+                Footprint.average((Object[]) urns),
+                Footprint.average((Object[]) warm),
+                Footprint.average((Object[]) compact)
+            );
+        }
+        Footprint.maps();
+    }
+
+    /**
+     * Print sizes of maps.
+     */
+    private static void maps() {
+        final URN[] urns = MapBenchmark.orders(100_000);
+        final URNMap<Boolean> tree = new URNMap<>();
+        final ConcurrentSkipListMap<URN, Boolean> list =
+            new ConcurrentSkipListMap<>();
+        for (final URN urn : urns) {
+            tree.put(urn, true);
+            list.put(urn, true);
+        }
+        System.out.printf(
+            "%n%-8s %8s %10s %10s%n", "map", "entries", "URNMap", "skip list"
+        );
+        System.out.printf(
+            "%-8s %8d %10d %10d%n", "orders", tree.size(),
+            GraphLayout.parseInstance(tree).totalSize() / tree.size(),
+            GraphLayout.parseInstance(list).totalSize() / list.size()
+        );
+    }
+
+    /**
+     * Average size of an element, with everything it references.
+     * @param array The array
+     * @return Bytes per element
+     */
+    private static long average(final Object... array) {
+        return (GraphLayout.parseInstance((Object) array).totalSize()
+            - VM.current().sizeOf(array)) / array.length;
+    }
+
+}
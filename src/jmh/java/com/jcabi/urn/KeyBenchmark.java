@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of finding the URNs of one tenant in a store sorted by
+ * {@link URN#toSortableBytes()}: filtering every row with
+ * {@link URN#matches(String)} and scanning the range of
+ * {@link URNKeyRange}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class KeyBenchmark {
+
+    /**
+     * The pattern, which matches URNs of one tenant.
+     */
+    private static final String PATTERN = "urn:tenant:t042:*";
+
+    /**
+     * The store, with URNs of {@link MapBenchmark}.
+     */
+    private NavigableMap<byte[], URN> store;
+
+    /**
+     * Prepare the store.
+     */
+    @Setup
+    public void setup() {
+        this.store = new ConcurrentSkipListMap<>(Sortable::compare);
+        for (final URN urn : MapBenchmark.orders(100_000)) {
+            this.store.put(urn.toSortableBytes(), urn);
+        }
+    }
+
+    /**
+     * Filter all rows.
+     * @return Number of URNs found
+     */
+    @Benchmark
+    public int filter() {
+        int found = 0;
+        for (final Map.Entry<byte[], URN> row : this.store.entrySet()) {
+            if (row.getValue().matches(KeyBenchmark.PATTERN)) {
+                ++found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Scan the range.
+     * @return Number of URNs found
+     */
+    @Benchmark
+    public int range() {
+        final URNKeyRange range = URNKeyRange.matching(KeyBenchmark.PATTERN);
+        return this.store.subMap(range.low(), range.high()).size();
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link URNMap} against {@link ConcurrentSkipListMap} of
+ * URNs: lookups, changes and scans of all URNs of a tenant.
+ *
+ * <p>Memory per entry of both maps is in {@link Footprint}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+    /**
+     * How many tenants.
+     */
+    private static final int TENANTS = 256;
+
+    /**
+     * How many URNs.
+     */
+    @Param("100000")
+    public int size;
+
+    /**
+     * URNs in the maps.
+     */
+    private URN[] urns;
+
+    /**
+     * The radix tree.
+     */
+    private URNMap<Integer> tree;
+
+    /**
+     * The skip list.
+     */
+    private ConcurrentSkipListMap<URN, Integer> list;
+
+    /**
+     * Position in the URNs.
+     */
+    private int pos;
+
+    /**
+     * Prepare the maps.
+     */
+    @Setup
+    public void setup() {
+        this.urns = MapBenchmark.orders(this.size);
+        this.tree = new URNMap<>();
+        this.list = new ConcurrentSkipListMap<>();
+        for (int idx = 0; idx < this.urns.length; ++idx) {
+            this.tree.put(this.urns[idx], idx);
+            this.list.put(this.urns[idx], idx);
+        }
+    }
+
+    /**
+     * Get from the tree.
+     * @return The value
+     */
+    @Benchmark
+    public Integer getTree() {
+        return this.tree.get(this.urns[this.next()]);
+    }
+
+    /**
+     * Get from the skip list.
+     * @return The value
+     */
+    @Benchmark
+    public Integer getList() {
+        return this.list.get(this.urns[this.next()]);
+    }
+
+    /**
+     * Replace a value in the tree.
+     * @return The old value
+     */
+    @Benchmark
+    public Integer putTree() {
+        final int idx = this.next();
+        return this.tree.put(this.urns[idx], idx);
+    }
+
+    /**
+     * Replace a value in the skip list.
+     * @return The old value
+     */
+    @Benchmark
+    public Integer putList() {
+        final int idx = this.next();
+        return this.list.put(this.urns[idx], idx);
+    }
+
+    /**
+     * Sum values of all URNs of a tenant in the tree.
+     * @return The sum
+     */
+    @Benchmark
+    public long scanTree() {
+        long sum = 0L;
+        for (final Map.Entry<URN, Integer> entry
+            : this.tree.matching(MapBenchmark.tenant(this.next()).concat("*"))) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Sum values of all URNs of a tenant in the skip list.
+     * @return The sum
+     */
+    @Benchmark
+    public long scanList() {
+        final String prefix = MapBenchmark.tenant(this.next());
+        long sum = 0L;
+        for (final Map.Entry<URN, Integer> entry
+            : this.list.tailMap(URN.create(prefix)).entrySet()) {
+            if (!entry.getKey().toString().startsWith(prefix)) {
+                break;
+            }
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Make URNs of orders of tenants.
+     * @param total How many
+     * @return URNs
+     */
+    static URN[] orders(final int total) {
+        final Random random = new Random(0L);
+        final URN[] urns = new URN[total];
+        for (int idx = 0; idx < total; ++idx) {
+            urns[idx] = URN.create(
+                String.format(
+                    "%sorder:%08d",
+                    MapBenchmark.tenant(random.nextInt(MapBenchmark.TENANTS)),
+                    random.nextInt(100_000_000)
+                )
+            );
+        }
+        return urns;
+    }
+
+    /**
+     * Prefix of all URNs of a tenant.
+     * @param idx Number of the tenant, or any number
+     * @return The prefix
+     */
+    private static String tenant(final int idx) {
+        return String.format(
+            "urn:tenant:t%03d:", idx % MapBenchmark.TENANTS
+        );
+    }
+
+    /**
+     * Next position in the URNs.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) % this.urns.length;
+        return this.pos;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of appending decoded parts of URNs to a builder, through
+ * strings and directly.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.AvoidStringBufferField")
+public class OutputBenchmark {
+
+    /**
+     * The corpus to use.
+     */
+    @Param({"LONG", "PARAMS", "UNICODE"})
+    public Corpus corpus;
+
+    /**
+     * Texts of URNs.
+     */
+    private String[] texts;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * The builder to append to.
+     */
+    private final StringBuilder builder = new StringBuilder(Limits.LENGTH);
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the URNs.
+     */
+    @Setup
+    public void setup() {
+        this.texts = this.corpus.texts();
+        this.urns = new URN[this.texts.length];
+        for (int idx = 0; idx < this.texts.length; ++idx) {
+            this.urns[idx] = URN.create(this.texts[idx]);
+        }
+    }
+
+    /**
+     * Append NSS of a fresh URN, through a string.
+     * @return Length of the builder
+     */
+    @Benchmark
+    public int nssViaString() {
+        this.builder.setLength(0);
+        this.builder.append(URN.trusted(this.texts[this.next()]).nss());
+        return this.builder.length();
+    }
+
+    /**
+     * Append NSS of a fresh URN.
+     * @return Length of the builder
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public int nssTo() throws IOException {
+        this.builder.setLength(0);
+        URN.trusted(this.texts[this.next()]).nssTo(this.builder);
+        return this.builder.length();
+    }
+
+    /**
+     * Append a param, through a string.
+     * @return Length of the builder
+     */
+    @Benchmark
+    public int paramViaString() {
+        this.builder.setLength(0);
+        final URN urn = this.urns[this.next()];
+        if (urn.hasParams()) {
+            this.builder.append(urn.param("p5"));
+        }
+        return this.builder.length();
+    }
+
+    /**
+     * Append a param.
+     * @return Length of the builder
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public int paramTo() throws IOException {
+        this.builder.setLength(0);
+        final URN urn = this.urns[this.next()];
+        if (urn.hasParams()) {
+            urn.paramTo("p5", this.builder);
+        }
+        return this.builder.length();
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of matching every URN against the same fifty patterns,
+ * as strings and compiled.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PatternBenchmark {
+
+    /**
+     * How many patterns.
+     */
+    private static final int TOTAL = 50;
+
+    /**
+     * The corpus to use.
+     */
+    @Param({"SHORT", "LONG"})
+    public Corpus corpus;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * Patterns, as strings.
+     */
+    private String[] texts;
+
+    /**
+     * Patterns, compiled.
+     */
+    private URNPattern[] patterns;
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the URNs and the patterns, half of them by prefix.
+     */
+    @Setup
+    public void setup() {
+        final String[] all = this.corpus.texts();
+        this.urns = new URN[all.length];
+        for (int idx = 0; idx < all.length; ++idx) {
+            this.urns[idx] = URN.create(all[idx]);
+        }
+        this.texts = new String[PatternBenchmark.TOTAL];
+        this.patterns = new URNPattern[PatternBenchmark.TOTAL];
+        for (int idx = 0; idx < PatternBenchmark.TOTAL; ++idx) {
+            final String text = all[idx * 7];
+            if (idx % 2 == 0) {
+                this.texts[idx] = text;
+            } else {
+                this.texts[idx] = text.substring(0, text.length() / 2)
+                    .concat("*");
+            }
+            this.patterns[idx] = URNPattern.compile(this.texts[idx]);
+        }
+    }
+
+    /**
+     * Match against patterns as strings.
+     * @return How many matched
+     */
+    @Benchmark
+    public int strings() {
+        final URN urn = this.urns[this.next()];
+        int found = 0;
+        for (final String pattern : this.texts) {
+            if (urn.matches(pattern)) {
+                ++found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Match against compiled patterns.
+     * @return How many matched
+     */
+    @Benchmark
+    public int compiled() {
+        final URN urn = this.urns[this.next()];
+        int found = 0;
+        for (final URNPattern pattern : this.patterns) {
+            if (pattern.matches(urn)) {
+                ++found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
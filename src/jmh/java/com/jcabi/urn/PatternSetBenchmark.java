@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of finding the most specific of many patterns that match
+ * a URN, one by one and in {@link URNPatternSet}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PatternSetBenchmark {
+
+    /**
+     * How many patterns.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    /**
+     * URNs to match, half of them match some patterns.
+     */
+    private URN[] urns;
+
+    /**
+     * Patterns, as strings.
+     */
+    private String[] patterns;
+
+    /**
+     * Patterns, in the set.
+     */
+    private URNPatternSet<String> set;
+
+    /**
+     * Position in the URNs.
+     */
+    private int pos;
+
+    /**
+     * Prepare the patterns, half of them by prefix, and the URNs.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(0L);
+        this.patterns = new String[this.size];
+        this.set = new URNPatternSet<>();
+        final String[] sources = new String[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            sources[idx] = PatternSetBenchmark.text(random);
+            if (idx % 2 == 0) {
+                this.patterns[idx] = sources[idx];
+            } else {
+                this.patterns[idx] = sources[idx]
+                    .substring(0, sources[idx].lastIndexOf(':') + 1)
+                    .concat("*");
+            }
+            this.set.add(this.patterns[idx], this.patterns[idx]);
+        }
+        this.urns = new URN[Corpus.SIZE];
+        for (int idx = 0; idx < this.urns.length; ++idx) {
+            if (idx % 2 == 0) {
+                this.urns[idx] = URN.create(
+                    sources[random.nextInt(this.size)]
+                );
+            } else {
+                this.urns[idx] = URN.create(PatternSetBenchmark.text(random));
+            }
+        }
+    }
+
+    /**
+     * Match against every pattern.
+     * @return The most specific pattern or NULL
+     */
+    @Benchmark
+    public String linear() {
+        final URN urn = this.urns[this.next()];
+        String best = null;
+        int length = -1;
+        for (final String pattern : this.patterns) {
+            final int weight = PatternSetBenchmark.weight(pattern);
+            if (weight > length && urn.matches(pattern)) {
+                best = pattern;
+                length = weight;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Match against the set.
+     * @return The most specific pattern or NULL
+     */
+    @Benchmark
+    public String trie() {
+        return this.set.best(this.urns[this.next()].toString()).orElse(null);
+    }
+
+    /**
+     * Make a random text of a URN.
+     * @param random Source of randomness
+     * @return The text
+     */
+    private static String text(final Random random) {
+        return String.format(
+            "urn:acl:%s:%s:%d",
+            Integer.toString(random.nextInt(64), Character.MAX_RADIX),
+            Integer.toString(random.nextInt(1 << 20), Character.MAX_RADIX),
+            random.nextInt(100)
+        );
+    }
+
+    /**
+     * How specific the pattern is: exact ones win over prefixes.
+     * @param pattern The pattern
+     * @return The weight
+     */
+    private static int weight(final String pattern) {
+        int weight = pattern.length() << 1;
+        if (!pattern.endsWith("*")) {
+            weight += 1;
+        }
+        return weight;
+    }
+
+    /**
+     * Next position in the URNs.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
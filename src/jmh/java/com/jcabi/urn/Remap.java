@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+/**
+ * Report of the share of URNs that move to other shards when there are
+ * more shards, routed by hash code of the pure URN and by
+ * {@link URNShardRouter}, with the URNs of {@link MapBenchmark}.
+ * The result is in src/jmh/baseline.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class Remap {
+
+    /**
+     * Utility class.
+     */
+    private Remap() {
+        // intentionally empty
+    }
+
+    /**
+     * Entry point.
+     * @param args Ignored
+     */
+    public static void main(final String... args) {
+        final URN[] urns = MapBenchmark.orders(100_000);
+        System.out.printf(
+            "%-6s %-6s %8s %8s %8s%n",
+            "from", "to", "ideal", "modulo", "jump"
+        );
+        final int[][] steps = {
+            {8, 9}, {64, 65}, {1000, 1001}, {8, 16}, {64, 128},
+        };
+        for (final int[] step : steps) {
+            final URNShardRouter before = new URNShardRouter(step[0]);
+            final URNShardRouter after = before.withShards(step[1]);
+            int modulo = 0;
+            int jump = 0;
+            for (final URN urn : urns) {
+                final int hash = Math.abs(urn.pure().hashCode());
+                if (hash % step[0] != hash % step[1]) {
+                    ++modulo;
+                }
+                if (before.shard(urn) != after.shard(urn)) {
+                    ++jump;
+                }
+            }
+            System.out.printf(
+                "%-6d %-6d %8.4f %8.4f %8.4f%n", step[0], step[1],
+                1.0d - (double) step[0] / (double) step[1],
+                (double) modulo / (double) urns.length,
+                (double) jump / (double) urns.length
+            );
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of routing URNs to shards, by hash code of the pure URN and
+ * with {@link URNShardRouter}. See {@link Remap} for the share of URNs
+ * that move when there are more shards.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    /**
+     * Number of shards.
+     */
+    private static final int SHARDS = 64;
+
+    /**
+     * The corpus.
+     */
+    @Param({"SHORT", "PARAMS"})
+    public Corpus corpus;
+
+    /**
+     * Texts of URNs.
+     */
+    private String[] texts;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * The router.
+     */
+    private URNShardRouter router;
+
+    /**
+     * The router, with a weight of the NID of the corpus.
+     */
+    private URNShardRouter weighted;
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the corpus.
+     */
+    @Setup
+    public void setup() {
+        this.texts = this.corpus.texts();
+        this.urns = new URN[this.texts.length];
+        for (int idx = 0; idx < this.texts.length; ++idx) {
+            this.urns[idx] = URN.create(this.texts[idx]);
+        }
+        this.router = new URNShardRouter(RouterBenchmark.SHARDS);
+        this.weighted = this.router.withWeight(this.urns[0].nid(), 0.25);
+    }
+
+    /**
+     * Route by hash code of the pure URN.
+     * @return The shard
+     */
+    @Benchmark
+    public int modulo() {
+        return Math.abs(this.urns[this.next()].pure().hashCode())
+            % RouterBenchmark.SHARDS;
+    }
+
+    /**
+     * Route with jump hash.
+     * @return The shard
+     */
+    @Benchmark
+    public int jump() {
+        return this.router.shard(this.urns[this.next()]);
+    }
+
+    /**
+     * Route with jump hash, to a share of shards.
+     * @return The shard
+     */
+    @Benchmark
+    public int share() {
+        return this.weighted.shard(this.urns[this.next()]);
+    }
+
+    /**
+     * Route a text with jump hash, validating it.
+     * @return The shard
+     */
+    @Benchmark
+    public int text() {
+        return this.router.shard(this.texts[this.next()]);
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
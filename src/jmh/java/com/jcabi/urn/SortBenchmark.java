@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of sorting a million URNs: by their texts, by
+ * {@link URN#compareTo(URN)} with abbreviated keys, in parallel, and
+ * with {@link URNs#sort(URN...)}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SortBenchmark {
+
+    /**
+     * How many URNs to sort.
+     */
+    private static final int SIZE = 1_000_000;
+
+    /**
+     * The URNs: "isbn" for short ones with a short NID, "orders" for
+     * URNs of {@link MapBenchmark} with a long shared prefix.
+     */
+    @Param({"isbn", "orders"})
+    public String kind;
+
+    /**
+     * The URNs, shuffled.
+     */
+    private URN[] urns;
+
+    /**
+     * Prepare the URNs.
+     */
+    @Setup
+    public void setup() {
+        if ("isbn".equals(this.kind)) {
+            final Random random = new Random(0L);
+            this.urns = new URN[SortBenchmark.SIZE];
+            for (int idx = 0; idx < this.urns.length; ++idx) {
+                this.urns[idx] = URN.create(
+                    String.format("urn:isbn:%09d", random.nextInt(1 << 30))
+                );
+            }
+        } else {
+            this.urns = MapBenchmark.orders(SortBenchmark.SIZE);
+        }
+    }
+
+    /**
+     * Sort by texts, as {@link URN#compareTo(URN)} did before.
+     * @return Sorted URNs
+     */
+    @Benchmark
+    public URN[] texts() {
+        final URN[] sorted = this.urns.clone();
+        Arrays.sort(sorted, Comparator.comparing(URN::toString));
+        return sorted;
+    }
+
+    /**
+     * Sort by {@link URN#compareTo(URN)}.
+     * @return Sorted URNs
+     */
+    @Benchmark
+    public URN[] natural() {
+        final URN[] sorted = this.urns.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Sort by {@link URN#compareTo(URN)} in parallel.
+     * @return Sorted URNs
+     */
+    @Benchmark
+    public URN[] parallel() {
+        final URN[] sorted = this.urns.clone();
+        Arrays.parallelSort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Sort with radix sort.
+     * @return Sorted URNs
+     */
+    @Benchmark
+    public URN[] radix() {
+        final URN[] sorted = this.urns.clone();
+        URNs.sort(sorted);
+        return sorted;
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of all public operations of {@link URN}.
+ *
+ * <p>Every call takes the next URN from the corpus, in a circle, so that
+ * the JIT can't fold anything into constants. Operations with cached
+ * results ({@link URN#nss()}, {@link URN#params()} and
+ * {@link URN#hashCode()}) are measured twice: on the same URNs, which
+ * shows the cost of a cache hit, and on fresh URNs made by
+ * {@link URN#trusted(String)}, which shows the cost of calculation.
+ * Run it with "-prof gc" to see allocation rates. Results are in
+ * src/jmh/baseline.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessivePublicCount"})
+public class URNBenchmark {
+
+    /**
+     * The corpus to use.
+     */
+    @Param({"SHORT", "LONG", "PARAMS", "UNICODE"})
+    public Corpus corpus;
+
+    /**
+     * Texts of URNs.
+     */
+    private String[] texts;
+
+    /**
+     * Invalid texts, made by breaking valid ones in the middle.
+     */
+    private String[] invalid;
+
+    /**
+     * URNs.
+     */
+    private URN[] urns;
+
+    /**
+     * Serialized URNs.
+     */
+    private byte[][] serialized;
+
+    /**
+     * NIDs and decoded NSSs.
+     */
+    private String[][] parts;
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the corpus.
+     */
+    @Setup
+    public void setup() {
+        this.texts = this.corpus.texts();
+        this.invalid = new String[this.texts.length];
+        this.urns = new URN[this.texts.length];
+        this.serialized = new byte[this.texts.length][];
+        this.parts = new String[this.texts.length][];
+        for (int idx = 0; idx < this.texts.length; ++idx) {
+            final String text = this.texts[idx];
+            final int middle = text.length() / 2;
+            this.invalid[idx] = new StringBuilder(text)
+                .insert(middle, ' ').toString();
+            this.urns[idx] = URN.create(text);
+            this.serialized[idx] = SerializationUtils.serialize(this.urns[idx]);
+            this.parts[idx] = new String[] {
+                this.urns[idx].nid(), this.urns[idx].nss(),
+            };
+        }
+    }
+
+    /**
+     * Parse a text.
+     * @return The URN
+     * @throws URISyntaxException If fails
+     */
+    @Benchmark
+    public URN parse() throws URISyntaxException {
+        return new URN(this.texts[this.next()]);
+    }
+
+    /**
+     * Make a URN from NID and NSS.
+     * @return The URN
+     */
+    @Benchmark
+    public URN fromComponents() {
+        final String[] part = this.parts[this.next()];
+        return new URN(part[0], part[1]);
+    }
+
+    /**
+     * Validate a valid text.
+     * @return Is it valid
+     */
+    @Benchmark
+    public boolean isValidOnValid() {
+        return URN.isValid(this.texts[this.next()]);
+    }
+
+    /**
+     * Validate an invalid text.
+     * @return Is it valid
+     */
+    @Benchmark
+    public boolean isValidOnInvalid() {
+        return URN.isValid(this.invalid[this.next()]);
+    }
+
+    /**
+     * Get NID.
+     * @return NID
+     */
+    @Benchmark
+    public String nid() {
+        return this.urns[this.next()].nid();
+    }
+
+    /**
+     * Get NSS, which is cached.
+     * @return NSS
+     */
+    @Benchmark
+    public String nssCached() {
+        return this.urns[this.next()].nss();
+    }
+
+    /**
+     * Get NSS of a fresh URN.
+     * @return NSS
+     */
+    @Benchmark
+    public String nssFresh() {
+        return URN.trusted(this.texts[this.next()]).nss();
+    }
+
+    /**
+     * Get params, which are cached.
+     * @return Params
+     */
+    @Benchmark
+    public Map<String, String> paramsCached() {
+        return this.urns[this.next()].params();
+    }
+
+    /**
+     * Get params of a fresh URN.
+     * @return Params
+     */
+    @Benchmark
+    public Map<String, String> paramsFresh() {
+        return URN.trusted(this.texts[this.next()]).params();
+    }
+
+    /**
+     * Get one param, which may be absent.
+     * @return Param value or NULL
+     */
+    @Benchmark
+    public String paramByName() {
+        final URN urn = this.urns[this.next()];
+        String value = null;
+        if (urn.hasParams()) {
+            value = urn.param("p5");
+        }
+        return value;
+    }
+
+    /**
+     * Add three params, one by one.
+     * @return The URN
+     */
+    @Benchmark
+    public URN paramChain() {
+        return this.urns[this.next()].pure()
+            .param("v", 1).param("page", 2).param("size", 3);
+    }
+
+    /**
+     * Get the pure part.
+     * @return The URN
+     */
+    @Benchmark
+    public URN pure() {
+        return this.urns[this.next()].pure();
+    }
+
+    /**
+     * Match against a prefix pattern.
+     * @return Does it match
+     */
+    @Benchmark
+    public boolean matches() {
+        return this.urns[this.next()].matches("urn:order:a*");
+    }
+
+    /**
+     * Compare with the neighbour.
+     * @return Comparison result
+     */
+    @Benchmark
+    public int compareTo() {
+        final int idx = this.next();
+        return this.urns[idx].compareTo(
+            this.urns[(idx + 1) % this.urns.length]
+        );
+    }
+
+    /**
+     * Get hash code, which is cached.
+     * @return Hash code
+     */
+    @Benchmark
+    public int hashCodeCached() {
+        return this.urns[this.next()].hashCode();
+    }
+
+    /**
+     * Get hash code of a fresh URN.
+     * @return Hash code
+     */
+    @Benchmark
+    public int hashCodeFresh() {
+        return URN.trusted(this.texts[this.next()]).hashCode();
+    }
+
+    /**
+     * Serialize.
+     * @return Bytes
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return SerializationUtils.serialize(this.urns[this.next()]);
+    }
+
+    /**
+     * Deserialize.
+     * @return The URN
+     */
+    @Benchmark
+    public URN deserialize() {
+        return SerializationUtils.deserialize(this.serialized[this.next()]);
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
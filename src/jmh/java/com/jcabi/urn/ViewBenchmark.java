@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of reading NID and NSS out of bytes, through a reused
+ * {@link URNView} and through a new {@link URN} per message.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidStringBufferField")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ViewBenchmark {
+
+    /**
+     * The corpus to use.
+     */
+    @Param({"SHORT", "LONG", "PARAMS"})
+    public Corpus corpus;
+
+    /**
+     * All URNs of the corpus, one after another.
+     */
+    private byte[] bytes;
+
+    /**
+     * Offsets of URNs in the bytes, one more than URNs.
+     */
+    private int[] offsets;
+
+    /**
+     * The view.
+     */
+    private final URNView flyweight = new URNView();
+
+    /**
+     * The builder for NSS.
+     */
+    private final StringBuilder nss = new StringBuilder(Limits.LENGTH);
+
+    /**
+     * Position in the corpus.
+     */
+    private int pos;
+
+    /**
+     * Prepare the bytes.
+     */
+    @Setup
+    public void setup() {
+        final String[] texts = this.corpus.texts();
+        this.offsets = new int[texts.length + 1];
+        final StringBuilder all = new StringBuilder(0);
+        for (int idx = 0; idx < texts.length; ++idx) {
+            all.append(texts[idx]);
+            this.offsets[idx + 1] = all.length();
+        }
+        this.bytes = all.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Read through a new URN.
+     * @return Length of NID and NSS
+     */
+    @Benchmark
+    public int parse() {
+        final int idx = this.next();
+        final URN urn = URN.parse(
+            this.bytes, this.offsets[idx],
+            this.offsets[idx + 1] - this.offsets[idx]
+        );
+        return urn.nid().length() + urn.nss().length();
+    }
+
+    /**
+     * Read through the view.
+     * @return Length of NID and NSS
+     */
+    @Benchmark
+    public int view() {
+        final int idx = this.next();
+        this.flyweight.wrap(
+            this.bytes, this.offsets[idx],
+            this.offsets[idx + 1] - this.offsets[idx]
+        );
+        this.nss.setLength(0);
+        return this.flyweight.nid().length() + this.flyweight.nss(this.nss).length();
+    }
+
+    /**
+     * Next position in the corpus.
+     * @return Position
+     */
+    private int next() {
+        this.pos = (this.pos + 1) & (Corpus.SIZE - 1);
+        return this.pos;
+    }
+
+}
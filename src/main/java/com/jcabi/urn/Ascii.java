@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bytes of an array or a buffer, seen as characters, one byte per
+ * character.
+ *
+ * <p>Bytes above 0x7F become characters above U+007F, which are never
+ * valid in a URN, so {@link Grammar} can scan the bytes in place,
+ * without decoding them. Bytes of heap buffers are read right from
+ * their arrays. The position and the limit of the buffer are never
+ * changed.
+ *
+ * <p>The sequence is mutable only for {@link URNView}, which points the
+ * same instance to every URN it is wrapped around, see
+ * {@link #point(byte[], ByteBuffer, int, int)}.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Ascii implements CharSequence {
+
+    /**
+     * The array, or NULL if the bytes are in the buffer.
+     */
+    private byte[] array;
+
+    /**
+     * The buffer, or NULL if the bytes are in the array.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Position of the first byte in the array or in the buffer.
+     */
+    private int start;
+
+    /**
+     * Number of bytes.
+     */
+    private int size;
+
+    /**
+     * Ctor, of an empty sequence.
+     */
+    Ascii() {
+        this(new byte[0], null, 0, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes The array, or NULL
+     * @param buf The buffer, or NULL
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private Ascii(final byte[] bytes, final ByteBuffer buf, final int offset,
+        final int length) {
+        this.array = bytes;
+        this.buffer = buf;
+        this.start = offset;
+        this.size = length;
+    }
+
+    @Override
+    public int length() {
+        return this.size;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final byte chr;
+        if (this.array == null) {
+            chr = this.buffer.get(this.start + index);
+        } else {
+            chr = this.array[this.start + index];
+        }
+        return (char) (chr & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int end) {
+        return new Ascii(
+            this.array, this.buffer, this.start + from, end - from
+        );
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.array == null) {
+            text = new String(this.bytes(), StandardCharsets.ISO_8859_1);
+        } else {
+            text = new String(
+                this.array, this.start, this.size, StandardCharsets.ISO_8859_1
+            );
+        }
+        return text;
+    }
+
+    /**
+     * View a range of an array.
+     * @param bytes The array
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return The view
+     */
+    static Ascii slice(final byte[] bytes, final int offset,
+        final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes can't be NULL");
+        }
+        Ascii.check(offset, length, bytes.length);
+        return new Ascii(bytes, null, offset, length);
+    }
+
+    /**
+     * View the remaining bytes of a buffer.
+     * @param buffer The buffer
+     * @return The view
+     */
+    static Ascii remaining(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer can't be NULL");
+        }
+        final Ascii view;
+        if (buffer.hasArray()) {
+            view = new Ascii(
+                buffer.array(), null,
+                buffer.arrayOffset() + buffer.position(), buffer.remaining()
+            );
+        } else {
+            view = new Ascii(
+                null, buffer, buffer.position(), buffer.remaining()
+            );
+        }
+        return view;
+    }
+
+    /**
+     * Check that the range fits into the bytes.
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @param limit Total number of bytes available
+     * @throws IndexOutOfBoundsException If it doesn't fit
+     */
+    static void check(final int offset, final int length, final int limit) {
+        if (offset < 0 || length < 0 || offset > limit - length) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Range of %d bytes at %d is out of %d bytes",
+                    length, offset, limit
+                )
+            );
+        }
+    }
+
+    /**
+     * Write ASCII characters to the buffer, heap or direct, starting from
+     * its position, and move the position after the last byte written.
+     * @param text The characters
+     * @param buffer The buffer
+     * @throws BufferOverflowException If there is not enough room
+     */
+    static void write(final CharSequence text, final ByteBuffer buffer) {
+        final int length = text.length();
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        final int start = buffer.position();
+        if (buffer.hasArray()) {
+            final byte[] bytes = buffer.array();
+            final int base = buffer.arrayOffset() + start;
+            for (int idx = 0; idx < length; ++idx) {
+                bytes[base + idx] = (byte) text.charAt(idx);
+            }
+        } else {
+            for (int idx = 0; idx < length; ++idx) {
+                buffer.put(start + idx, (byte) text.charAt(idx));
+            }
+        }
+        ((Buffer) buffer).position(start + length);
+    }
+
+    /**
+     * Point it to other bytes, which must be already checked.
+     * @param bytes The array, or NULL
+     * @param buf The buffer, or NULL
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return This sequence
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Ascii point(final byte[] bytes, final ByteBuffer buf, final int offset,
+        final int length) {
+        this.array = bytes;
+        this.buffer = buf;
+        this.start = offset;
+        this.size = length;
+        return this;
+    }
+
+    /**
+     * Copy the bytes.
+     * @return The copy
+     */
+    byte[] bytes() {
+        final byte[] bytes = new byte[this.size];
+        if (this.array == null) {
+            final ByteBuffer dup = this.buffer.duplicate();
+            ((Buffer) dup).position(this.start);
+            dup.get(bytes);
+        } else {
+            System.arraycopy(this.array, this.start, bytes, 0, this.size);
+        }
+        return bytes;
+    }
+
+    /**
+     * Parse a URN from the bytes.
+     * @return The URN
+     * @throws IllegalArgumentException If the bytes are not a valid URN
+     */
+    URN urn() {
+        final long parts = Grammar.scan(this, 0, this.size);
+        if (parts < 0L) {
+            throw new IllegalArgumentException(Grammar.invalid(this, parts));
+        }
+        return new URN(
+            this.toString(), Grammar.colon(parts), Grammar.query(parts)
+        );
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import com.jcabi.aspects.Immutable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * URN in the smallest possible form, for keeping millions of them in
+ * memory.
+ *
+ * <p>A valid URN is always ASCII, since everything else in it is
+ * percent-encoded, so it is kept here as one byte per character, in one
+ * array, together with the positions of its NID and query, its hash
+ * code and its NID, if it is registered, shared with {@link URN}.
+ * There are no cached strings, maps or URIs, as in {@link URN}:
+ * {@link #toString()} and other views are made on demand. Convert it to
+ * {@link URN} to work with it, and back, to keep it:
+ *
+ * <pre> CompactURN compact = URN.create("urn:test:a?b=c").compact();
+ * assert compact.toURN().param("b").equals("c");</pre>
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@Immutable
+@SuppressWarnings("PMD.TooManyMethods")
+public final class CompactURN implements Comparable<CompactURN> {
+
+    /**
+     * Position of NID, after "urn:".
+     */
+    private static final int START = 4;
+
+    /**
+     * Characters of the URN.
+     */
+    @Immutable.Array
+    private final byte[] chars;
+
+    /**
+     * Position of the colon after NID.
+     */
+    private final int colon;
+
+    /**
+     * Position of the question mark, or length of the URN if there
+     * is no query.
+     */
+    private final int query;
+
+    /**
+     * Hash code, the same as of {@link #toString()}.
+     */
+    private final int hash;
+
+    /**
+     * NID, shared by all URNs in the namespace, or NULL if the NID is not
+     * registered.
+     */
+    private final Namespace namespace;
+
+    /**
+     * Ctor.
+     * @param bytes Characters of a valid URN
+     * @param nid The NID, or NULL if it is not registered
+     * @param sep Position of the colon after NID
+     * @param qry Position of the question mark, or length
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    CompactURN(final byte[] bytes, final Namespace nid, final int sep,
+        final int qry) {
+        this.chars = bytes;
+        this.namespace = nid;
+        this.colon = sep;
+        this.query = qry;
+        this.hash = CompactURN.hashed(bytes);
+    }
+
+    /**
+     * Parse the URN from a range of bytes.
+     * @param bytes The bytes
+     * @param offset Position of the first byte of the URN
+     * @param length Number of bytes in the URN
+     * @return The URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompactURN parse(final byte[] bytes, final int offset,
+        final int length) {
+        return CompactURN.parse(Ascii.slice(bytes, offset, length));
+    }
+
+    /**
+     * Parse the URN from the remaining bytes of the buffer, without
+     * changing its position.
+     * @param buffer The buffer, heap or direct
+     * @return The URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static CompactURN parse(final ByteBuffer buffer) {
+        return CompactURN.parse(Ascii.remaining(buffer));
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.chars, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof CompactURN
+            && this.hash == ((CompactURN) obj).hash
+            && Arrays.equals(this.chars, ((CompactURN) obj).chars);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public int compareTo(final CompactURN urn) {
+        final int common = Math.min(this.chars.length, urn.chars.length);
+        int diff = 0;
+        for (int idx = 0; diff == 0 && idx < common; ++idx) {
+            diff = this.chars[idx] - urn.chars[idx];
+        }
+        if (diff == 0) {
+            diff = this.chars.length - urn.chars.length;
+        }
+        return diff;
+    }
+
+    /**
+     * Number of characters in the URN.
+     * @return The length
+     */
+    public int length() {
+        return this.chars.length;
+    }
+
+    /**
+     * Get namespace ID.
+     *
+     * <p>If the NID is registered, see {@link URN#register(String)}, it is
+     * the same instance as {@link URN#nid()} returns. Otherwise, it is a
+     * new string on every call.
+     *
+     * @return Namespace ID
+     */
+    public String nid() {
+        final String nid;
+        if (this.namespace == null) {
+            nid = new String(
+                this.chars, CompactURN.START, this.colon - CompactURN.START,
+                StandardCharsets.ISO_8859_1
+            );
+        } else {
+            nid = this.namespace.toString();
+        }
+        return nid;
+    }
+
+    /**
+     * Get namespace specific string, decoded, as {@link URN#nss()} does.
+     * @return Namespace specific string
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    public String nss() {
+        return Percent.decode(this.chars, this.colon + 1, this.chars.length);
+    }
+
+    /**
+     * Whether this URN has params?
+     * @return Has them?
+     */
+    public boolean hasParams() {
+        return this.query < this.chars.length;
+    }
+
+    /**
+     * Convert it to a URN.
+     * @return The URN
+     */
+    public URN toURN() {
+        return new URN(this.toString(), this.colon, this.query);
+    }
+
+    /**
+     * Parse the URN from characters.
+     * @param text The characters
+     * @return The URN
+     */
+    private static CompactURN parse(final Ascii text) {
+        final long parts = Grammar.scan(text, 0, text.length());
+        if (parts < 0L) {
+            throw new IllegalArgumentException(Grammar.invalid(text, parts));
+        }
+        final int colon = Grammar.colon(parts);
+        return new CompactURN(
+            text.bytes(), Namespace.lookup(text, CompactURN.START, colon),
+            colon, Grammar.query(parts)
+        );
+    }
+
+    /**
+     * Calculate hash code, the same way {@link String#hashCode()} does.
+     * @param bytes Characters
+     * @return Hash code
+     */
+    private static int hashed(final byte[] bytes) {
+        int code = 0;
+        for (final byte chr : bytes) {
+            code = 31 * code + chr;
+        }
+        return code;
+    }
+
+}
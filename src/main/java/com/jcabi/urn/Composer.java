@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Composer of the text of a URN from its parts, behind {@link URN.Builder},
+ * and maker of URNs from texts that are known to be valid.
+ *
+ * <p>NSS must be already encoded, param values must be not. The class is
+ * mutable and not thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class Composer {
+
+    /**
+     * The leading sequence.
+     */
+    static final String PREFIX = "urn";
+
+    /**
+     * The leading sequence of this URN, in any case.
+     */
+    private final String prefix;
+
+    /**
+     * Params, with decoded values, sorted by name.
+     */
+    private final Map<String, String> params;
+
+    /**
+     * There is an asterisk at the end?
+     */
+    private final boolean wildcard;
+
+    /**
+     * The namespace ID.
+     */
+    private String nid;
+
+    /**
+     * The namespace specific string, already encoded.
+     */
+    private String nss;
+
+    /**
+     * The NID is given by code, not taken from a parsed URN, and may be
+     * registered, see {@link Namespace}?
+     */
+    private boolean known;
+
+    /**
+     * Ctor, of a URN without NSS and params.
+     * @param name The namespace ID
+     */
+    Composer(final String name) {
+        this(Composer.PREFIX, new TreeMap<>(), false, name, "", true);
+    }
+
+    /**
+     * Ctor, of the same URN, with the same case of the prefix and the same
+     * asterisk after the params, if any.
+     * @param urn The URN to start with
+     * @throws IllegalArgumentException If escapes of a value are not UTF-8
+     */
+    Composer(final URN urn) {
+        this(urn, urn.toString(), Composer.end(urn));
+    }
+
+    /**
+     * Ctor.
+     * @param urn The URN to start with
+     * @param text Its text
+     * @param end End of its params, before the asterisk
+     */
+    private Composer(final URN urn, final String text, final int end) {
+        this(
+            text.substring(0, Composer.PREFIX.length()),
+            Query.demap(text.substring(urn.queryStart(), end)),
+            end < text.length(),
+            urn.nid(),
+            text.substring(urn.nidEnd() + 1, urn.queryStart()),
+            false
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param lead The leading sequence, in any case
+     * @param map Params, sorted by name
+     * @param star Add an asterisk at the end
+     * @param name The namespace ID
+     * @param specific The namespace specific string, encoded
+     * @param given The NID is given by code
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Composer(final String lead, final Map<String, String> map,
+        final boolean star, final String name, final String specific,
+        final boolean given) {
+        this.prefix = lead;
+        this.params = map;
+        this.wildcard = star;
+        this.nid = name;
+        this.nss = specific;
+        this.known = given;
+    }
+
+    /**
+     * Replace the NID.
+     * @param name The namespace ID
+     * @return This object
+     */
+    Composer withNid(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("NID can't be NULL");
+        }
+        this.nid = name;
+        this.known = true;
+        return this;
+    }
+
+    /**
+     * Replace the NSS with segments, which will be encoded and separated
+     * by colons.
+     * @param segments Segments of NSS
+     * @return This object
+     */
+    Composer withNss(final String... segments) {
+        final StringBuilder text = new StringBuilder(0);
+        for (final String segment : segments) {
+            if (segment == null) {
+                throw new IllegalArgumentException("NSS can't be NULL");
+            }
+            if (text.length() > 0) {
+                text.append(':');
+            }
+            text.append(Percent.encode(segment));
+        }
+        this.nss = text.toString();
+        return this;
+    }
+
+    /**
+     * Add the param, replacing the param with the same name.
+     * @param name Name of parameter
+     * @param value The value of parameter
+     * @return This object
+     */
+    Composer withParam(final String name, final Object value) {
+        if (name == null) {
+            throw new IllegalArgumentException("param can't be NULL");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("param value can't be NULL");
+        }
+        this.params.put(name, value.toString());
+        return this;
+    }
+
+    /**
+     * Remove the param.
+     * @param name Name of parameter
+     * @return This object
+     */
+    Composer withoutParam(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("param name can't be NULL");
+        }
+        this.params.remove(name);
+        return this;
+    }
+
+    /**
+     * Make the URN.
+     * @return The URN
+     */
+    URN urn() {
+        final String[] values = new String[this.params.size()];
+        int length = this.prefix.length() + this.nid.length()
+            + this.nss.length() + 3;
+        int idx = 0;
+        for (final Map.Entry<String, String> param
+            : this.params.entrySet()) {
+            if (!Grammar.name(param.getKey())) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid param name '%s'", param.getKey()
+                    )
+                );
+            }
+            values[idx] = Percent.encode(param.getValue());
+            length += param.getKey().length() + values[idx].length() + 2;
+            ++idx;
+        }
+        final StringBuilder text = new StringBuilder(length)
+            .append(this.prefix).append(':').append(this.nid)
+            .append(':').append(this.nss);
+        int query = text.length();
+        idx = 0;
+        for (final String name : this.params.keySet()) {
+            if (idx == 0) {
+                text.append('?');
+            } else {
+                text.append('&');
+            }
+            text.append(name);
+            if (!values[idx].isEmpty()) {
+                text.append('=').append(values[idx]);
+            }
+            ++idx;
+        }
+        if (this.wildcard) {
+            text.append('*');
+            if (this.params.isEmpty()) {
+                query = text.length();
+            }
+        }
+        return this.checked(text.toString(), query);
+    }
+
+    /**
+     * Creates an instance of URN from a text that is known to be valid.
+     * @param text The text of the URN
+     * @param verify Validate it anyway
+     * @return The URN created
+     */
+    static URN trusted(final String text, final boolean verify) {
+        if (text == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        final URN urn;
+        if (verify) {
+            urn = URN.create(text);
+        } else {
+            final int colon = text.indexOf(
+                ':', Composer.PREFIX.length() + 1
+            );
+            if (colon < 0) {
+                throw new IllegalArgumentException(
+                    String.format("There is no NID in '%s'", text)
+                );
+            }
+            int query = text.indexOf('?', colon);
+            if (query < 0) {
+                query = text.length();
+            }
+            urn = new URN(text, colon, query);
+        }
+        return urn;
+    }
+
+    /**
+     * Check NID and make a URN.
+     * @param text The text of the URN
+     * @param query Position of the query, or length of the text
+     * @return The URN
+     */
+    private URN checked(final String text, final int query) {
+        final int colon = this.prefix.length() + this.nid.length() + 1;
+        final long head = Grammar.scan(text, 0, colon + 1);
+        if (head < 0L || Grammar.colon(head) != colon) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "NID '%s' must be 1 to 31 low case letters, not 'urn'",
+                    this.nid
+                )
+            );
+        }
+        if ("void".equals(this.nid) && text.length() > colon + 1) {
+            throw new IllegalArgumentException(
+                Verdict.Defect.EMPTY.reason()
+            );
+        }
+        Composer.limit(text, colon, query, this.params.size());
+        if (query < text.length()
+            && this.nss.endsWith("*")) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "NSS '%s' with trailing asterisk can't have params",
+                    this.nss
+                )
+            );
+        }
+        if (this.known) {
+            Namespace.register(this.nid, 0, this.nid.length());
+        }
+        return new URN(text, colon, query);
+    }
+
+    /**
+     * End of params of the URN, before the asterisk after them.
+     * @param urn The URN
+     * @return Position of the asterisk or length of the text
+     */
+    private static int end(final URN urn) {
+        final String text = urn.toString();
+        int end = text.length();
+        if (urn.hasParams() && text.charAt(end - 1) == '*') {
+            --end;
+        }
+        return end;
+    }
+
+    /**
+     * Check that the URN fits into {@link Limits}.
+     * @param text The text of the URN
+     * @param colon Position of the colon after NID
+     * @param query Position of the query, or length of the text
+     * @param count How many params there are
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void limit(final String text, final int colon,
+        final int query, final int count) {
+        Verdict.Defect defect = Verdict.Defect.NONE;
+        if (text.length() > Limits.LENGTH) {
+            defect = Verdict.Defect.LENGTH;
+        } else if (query - colon - 1 > Limits.NSS) {
+            defect = Verdict.Defect.NSS_LENGTH;
+        } else if (count > Limits.PARAMS) {
+            defect = Verdict.Defect.PARAMS;
+        }
+        if (defect != Verdict.Defect.NONE) {
+            throw new IllegalArgumentException(defect.reason());
+        }
+    }
+
+}
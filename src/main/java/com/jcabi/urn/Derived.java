@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values derived from the text of a {@link URN}, calculated on first
+ * demand.
+ *
+ * <p>A URN keeps them in one object, which it makes when any of them is
+ * needed for the first time, so that URNs whose views are never used
+ * don't pay for the empty fields.
+ *
+ * <p>The fields are not final, but the URN is still immutable: they are
+ * calculated from its text, the same way by every thread, and published
+ * without locks ("racy single-check"). This is safe for strings and
+ * unmodifiable maps, because their content is reachable only through final
+ * fields. A thread that sees this object, but not its fields, simply
+ * calculates them once again.
+ *
+ * @since 1.0
+ */
+final class Derived {
+
+    /**
+     * Decoded NSS.
+     */
+    private String decoded;
+
+    /**
+     * NID, if it is not registered.
+     */
+    private String name;
+
+    /**
+     * All params, unmodifiable.
+     */
+    private Map<String, String> map;
+
+    /**
+     * Fingerprint, zero until calculated.
+     *
+     * <p>The field is volatile, since writes to a plain {@code long} are
+     * not atomic and another thread could see half of it. A text whose
+     * fingerprint is zero is hashed on every call, which is rare enough
+     * not to keep a separate flag.
+     */
+    private volatile long digest;
+
+    /**
+     * URI.
+     *
+     * <p>The field is volatile, since {@link URI} has no final fields and
+     * may not be safely published through a data race.
+     */
+    private volatile URI link;
+
+    /**
+     * NID, cut out of the text.
+     * @param text The text of the URN
+     * @param colon Position of the colon after NID
+     * @return NID
+     */
+    String nid(final String text, final int colon) {
+        String nid = this.name;
+        if (nid == null) {
+            nid = text.substring(Composer.PREFIX.length() + 1, colon);
+            this.name = nid;
+        }
+        return nid;
+    }
+
+    /**
+     * Decoded NSS.
+     * @param text The text of the URN
+     * @param colon Position of the colon after NID
+     * @return NSS
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    String nss(final String text, final int colon) {
+        String nss = this.decoded;
+        if (nss == null) {
+            nss = Percent.decode(text, colon + 1, text.length());
+            this.decoded = nss;
+        }
+        return nss;
+    }
+
+    /**
+     * Append decoded NSS to the output, without making a string, unless
+     * it is already made.
+     * @param text The text of the URN
+     * @param colon Position of the colon after NID
+     * @param out The output
+     * @throws IOException If the output fails
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    void nss(final String text, final int colon, final Appendable out)
+        throws IOException {
+        final String nss = this.decoded;
+        if (nss == null) {
+            Percent.decode(text, colon + 1, text.length(), out);
+        } else {
+            out.append(nss);
+        }
+    }
+
+    /**
+     * All params.
+     * @param text The text of the URN
+     * @param query Position of the question mark, or length of the text
+     * @return The params, unmodifiable and sorted by name
+     * @throws IllegalArgumentException If escapes of a value are not UTF-8
+     */
+    Map<String, String> params(final String text, final int query) {
+        Map<String, String> params = this.map;
+        if (params == null) {
+            params = Collections.unmodifiableMap(
+                Query.demap(text.substring(query))
+            );
+            this.map = params;
+        }
+        return params;
+    }
+
+    /**
+     * Fingerprint of the text, see {@link URN#fingerprint64()}.
+     * @param text The text of the URN
+     * @return The fingerprint
+     */
+    long fingerprint(final String text) {
+        long hash = this.digest;
+        if (hash == 0L) {
+            hash = URNs.xxhash(text);
+            this.digest = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * URI.
+     * @param text The text of the URN
+     * @return The URI
+     */
+    URI uri(final String text) {
+        URI converted = this.link;
+        if (converted == null) {
+            converted = URI.create(text);
+            this.link = converted;
+        }
+        return converted;
+    }
+
+}
@@ -0,0 +1,654 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+/**
+ * Single-pass scanner of URN syntax.
+ *
+ * <p>The scanner accepts exactly the same texts as the regular expression
+ * that {@link URN} used before, but it walks the input only once, doesn't
+ * compile anything and doesn't allocate. The grammar is:
+ *
+ * <pre> urn    = "urn" ":" nid ( ":" nss* )+ query? "*"?
+ * nid    = [a-z]{1,31}
+ * nss    = [-a-zA-Z0-9/] | "%" hex hex
+ * query  = "?" param ( "&amp;" param )*
+ * param  = \w+ ( "=" value* )?
+ * value  = [-a-zA-Z0-9/] | "%" hex hex</pre>
+ *
+ * <p>The "urn" prefix is case-insensitive, everything else is not.
+ *
+ * <p>Every character is visited at most twice and nothing is ever
+ * backtracked, so the time is linear in the length of the text, whatever
+ * the text is. On top of that, the text must fit into {@link Limits}:
+ * the total length is checked before anything else is scanned.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class Grammar {
+
+    /**
+     * Character class: allowed in NSS and param values.
+     */
+    private static final byte UNRESERVED = 1;
+
+    /**
+     * Character class: word character, as in {@code \w}.
+     */
+    private static final byte WORD = 2;
+
+    /**
+     * Character class: hexadecimal digit.
+     */
+    private static final byte HEX = 4;
+
+    /**
+     * Character class: lower case Latin letter.
+     */
+    private static final byte LOWER = 8;
+
+    /**
+     * Character class: colon, allowed in NSS only.
+     */
+    private static final byte SEPARATOR = 16;
+
+    /**
+     * Classes of all ASCII characters.
+     */
+    private static final byte[] CLASSES = Grammar.table();
+
+    /**
+     * All defects, by their ordinals.
+     */
+    private static final Verdict.Defect[] DEFECTS = Verdict.Defect.values();
+
+    /**
+     * Maximum length of NID.
+     */
+    private static final int NID_LENGTH = 31;
+
+    /**
+     * Maximum number of characters of an invalid text quoted in an error
+     * message.
+     */
+    private static final int QUOTE_LIMIT = 64;
+
+    /**
+     * Utility class.
+     */
+    private Grammar() {
+        // intentionally empty
+    }
+
+    /**
+     * Scan the text and find positions of its parts.
+     *
+     * <p>If the text is valid, the result is a non-negative number with
+     * the position of the colon after NID and the position of the question
+     * mark that starts the query (or {@code end} if there is no query),
+     * which are available through {@link #colon(long)} and
+     * {@link #query(long)}. Otherwise, the result is negative, and
+     * {@link #defect(long)} and {@link #failure(long)} tell what is wrong
+     * and where.
+     *
+     * <p>Besides the syntax, the scanner checks that NID is not "urn",
+     * that an empty URN (with "void" NID) has no NSS, and that the text
+     * fits into {@link Limits}.
+     *
+     * @param text The text to scan
+     * @param from Position of the first character to scan
+     * @param end Position after the last character to scan
+     * @return Positions of the parts or negative number if not valid
+     */
+    static long scan(final CharSequence text, final int from, final int end) {
+        final long parts;
+        if (end - from > Limits.LENGTH) {
+            parts = Grammar.fail(Verdict.Defect.LENGTH, from + Limits.LENGTH);
+        } else {
+            final long parsed = Grammar.parsed(text, from, end);
+            if (parsed >= 0L) {
+                parts = Grammar.limited(text, parsed, end);
+            } else {
+                parts = parsed;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Scan the text as {@link #scan(CharSequence, int, int)} does, but
+     * without {@link Limits}, for texts that were valid before the limits
+     * were set, like serialized URNs.
+     * @param text The text to scan
+     * @param from Position of the first character to scan
+     * @param end Position after the last character to scan
+     * @return Positions of the parts or negative number if not valid
+     */
+    static long parsed(final CharSequence text, final int from,
+        final int end) {
+        final int start = Grammar.prefix(text, from, end);
+        final long parts;
+        if (start < 0) {
+            parts = Grammar.fail(Verdict.Defect.PREFIX, ~start);
+        } else {
+            parts = Grammar.checked(text, start, end);
+        }
+        return parts;
+    }
+
+    /**
+     * Position of the colon after NID.
+     * @param parts Result of {@link #scan(CharSequence, int, int)}
+     * @return The position
+     */
+    static int colon(final long parts) {
+        return (int) (parts >>> Integer.SIZE);
+    }
+
+    /**
+     * Position of the question mark, or the end of the text if there
+     * is no query.
+     * @param parts Result of {@link #scan(CharSequence, int, int)}
+     * @return The position
+     */
+    static int query(final long parts) {
+        return (int) parts;
+    }
+
+    /**
+     * Position of the first wrong character, or the end of the text if it
+     * ends prematurely.
+     * @param parts Negative result of {@link #scan(CharSequence, int, int)}
+     * @return The position
+     */
+    static int failure(final long parts) {
+        return (int) ~parts;
+    }
+
+    /**
+     * What is wrong with the text.
+     * @param parts Negative result of {@link #scan(CharSequence, int, int)}
+     * @return The defect
+     */
+    static Verdict.Defect defect(final long parts) {
+        return Grammar.DEFECTS[(int) (~parts >>> Integer.SIZE)];
+    }
+
+    /**
+     * Make a verdict.
+     * @param parts Result of {@link #scan(CharSequence, int, int)}
+     * @return The verdict
+     */
+    static Verdict verdict(final long parts) {
+        final Verdict verdict;
+        if (parts < 0L) {
+            verdict = new Verdict(
+                Grammar.defect(parts), Grammar.failure(parts)
+            );
+        } else {
+            verdict = Verdict.SOUND;
+        }
+        return verdict;
+    }
+
+    /**
+     * Explain why the text is not a valid URN.
+     * @param text The text
+     * @param parts Result of {@link #scan(CharSequence, int, int)}
+     * @return Error message
+     */
+    static String invalid(final CharSequence text, final long parts) {
+        return String.format(
+            "Invalid URN %s: %s", Grammar.quoted(text), Grammar.verdict(parts)
+        );
+    }
+
+    /**
+     * Quote the text for an error message.
+     *
+     * <p>Only the first characters of the text are quoted, together with
+     * its length, since the text may be huge, which is exactly why it
+     * may be rejected.
+     *
+     * @param text The text
+     * @return Quoted text
+     */
+    static String quoted(final CharSequence text) {
+        final String quoted;
+        if (text.length() > Grammar.QUOTE_LIMIT) {
+            quoted = String.format(
+                "'%s...' (%d chars)",
+                text.subSequence(0, Grammar.QUOTE_LIMIT), text.length()
+            );
+        } else {
+            quoted = String.format("'%s'", text);
+        }
+        return quoted;
+    }
+
+    /**
+     * This character can stay as is in NSS and param values, without
+     * percent-encoding?
+     * @param chr The character
+     * @return TRUE if it can
+     */
+    static boolean safe(final char chr) {
+        return Grammar.belongs(chr, Grammar.UNRESERVED);
+    }
+
+    /**
+     * This text can be a NID?
+     * @param text The text
+     * @return TRUE if it is 1 to 31 lower case letters
+     */
+    static boolean identifier(final CharSequence text) {
+        boolean nid = text.length() > 0
+            && text.length() <= Grammar.NID_LENGTH;
+        for (int idx = 0; nid && idx < text.length(); ++idx) {
+            nid = Grammar.belongs(text.charAt(idx), Grammar.LOWER);
+        }
+        return nid;
+    }
+
+    /**
+     * This text can be a name of a query param?
+     * @param text The text
+     * @return TRUE if it is one or more word characters
+     */
+    static boolean name(final CharSequence text) {
+        boolean name = text.length() > 0;
+        for (int idx = 0; name && idx < text.length(); ++idx) {
+            name = Grammar.belongs(text.charAt(idx), Grammar.WORD);
+        }
+        return name;
+    }
+
+    /**
+     * Scan NID and everything after it, and check the NID when the syntax
+     * is valid.
+     * @param text The text
+     * @param start Position of NID
+     * @param end End position
+     * @return Positions of the parts or negative number if not valid
+     */
+    private static long checked(final CharSequence text, final int start,
+        final int end) {
+        final long parts = Grammar.named(text, start, end);
+        final int colon = Grammar.colon(parts);
+        final long checked;
+        if (parts >= 0L && Grammar.same(text, start, colon, "urn")) {
+            checked = Grammar.fail(Verdict.Defect.RESERVED, start);
+        } else if (parts >= 0L && colon + 1 < end
+            && Grammar.same(text, start, colon, "void")) {
+            checked = Grammar.fail(Verdict.Defect.EMPTY, colon + 1);
+        } else {
+            checked = parts;
+        }
+        return checked;
+    }
+
+    /**
+     * Check the sizes of NSS and the query of a valid text.
+     * @param text The text
+     * @param parts Positions of the parts
+     * @param end End position
+     * @return Positions of the parts or negative number if too big
+     */
+    private static long limited(final CharSequence text, final long parts,
+        final int end) {
+        final int colon = Grammar.colon(parts);
+        final int query = Grammar.query(parts);
+        long limited = parts;
+        if (query - colon - 1 > Limits.NSS) {
+            limited = Grammar.fail(
+                Verdict.Defect.NSS_LENGTH, colon + 1 + Limits.NSS
+            );
+        } else {
+            final int extra = Grammar.extra(text, query, end);
+            if (extra >= 0) {
+                limited = Grammar.fail(Verdict.Defect.PARAMS, extra);
+            }
+        }
+        return limited;
+    }
+
+    /**
+     * Find the separator of the first param above {@link Limits#PARAMS}.
+     *
+     * <p>Every param takes at least two characters, together with its
+     * separator, so a short query is not even scanned.
+     *
+     * @param text The text
+     * @param query Position of the question mark, or the end
+     * @param end End position
+     * @return Position of the separator or -1 if there are not so many
+     */
+    private static int extra(final CharSequence text, final int query,
+        final int end) {
+        int extra = -1;
+        if (end - query > Limits.PARAMS << 1) {
+            int count = 0;
+            int pos = query;
+            while (pos < end) {
+                final char chr = text.charAt(pos);
+                if (chr == '?' || chr == '&') {
+                    ++count;
+                }
+                if (count > Limits.PARAMS) {
+                    extra = pos;
+                    break;
+                }
+                ++pos;
+            }
+        }
+        return extra;
+    }
+
+    /**
+     * Scan NID and everything after it.
+     * @param text The text
+     * @param start Position of NID
+     * @param end End position
+     * @return Positions of the parts or negative number if not valid
+     */
+    private static long named(final CharSequence text, final int start,
+        final int end) {
+        final int nss = Grammar.nid(text, start, end);
+        final long parts;
+        if (nss < 0) {
+            parts = Grammar.fail(Verdict.Defect.NID, ~nss);
+        } else {
+            parts = Grammar.specific(text, nss, end);
+        }
+        return parts;
+    }
+
+    /**
+     * Scan NSS, query and trailer.
+     * @param text The text
+     * @param start Position of NSS
+     * @param end End position
+     * @return Positions of the parts or negative number if not valid
+     */
+    private static long specific(final CharSequence text, final int start,
+        final int end) {
+        final int after = Grammar.nss(text, start, end);
+        final int pos = Grammar.query(text, after, end);
+        final long parts;
+        if (after < 0) {
+            parts = Grammar.fail(Verdict.Defect.NSS, ~after);
+        } else if (pos < 0) {
+            parts = Grammar.fail(Verdict.Defect.QUERY, ~pos);
+        } else if (pos == end || pos == end - 1 && text.charAt(pos) == '*') {
+            int query = end;
+            if (pos != after) {
+                query = after;
+            }
+            parts = (long) (start - 1) << Integer.SIZE | query;
+        } else if (text.charAt(pos) == '*') {
+            parts = Grammar.fail(Verdict.Defect.TRAILER, pos + 1);
+        } else if (pos == after) {
+            parts = Grammar.fail(Verdict.Defect.NSS, pos);
+        } else {
+            parts = Grammar.fail(Verdict.Defect.QUERY, pos);
+        }
+        return parts;
+    }
+
+    /**
+     * Encode a failure.
+     * @param defect What is wrong
+     * @param pos Where it is wrong
+     * @return Negative number
+     */
+    private static long fail(final Verdict.Defect defect, final int pos) {
+        return ~((long) defect.ordinal() << Integer.SIZE | pos);
+    }
+
+    /**
+     * The range of the text is equal to the string.
+     * @param text The text
+     * @param start Start of the range
+     * @param end End of the range
+     * @param expected The string
+     * @return TRUE if equal
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static boolean same(final CharSequence text, final int start,
+        final int end, final String expected) {
+        boolean same = end - start == expected.length();
+        for (int idx = 0; same && idx < expected.length(); ++idx) {
+            same = text.charAt(start + idx) == expected.charAt(idx);
+        }
+        return same;
+    }
+
+    /**
+     * Skip the case-insensitive "urn:" prefix.
+     * @param text The text
+     * @param from Start position
+     * @param end End position
+     * @return Position after the prefix or negative failure position
+     */
+    private static int prefix(final CharSequence text, final int from,
+        final int end) {
+        final String expected = "urn:";
+        int pos = from;
+        for (int idx = 0; idx < expected.length(); ++idx) {
+            if (pos == end
+                || Grammar.folded(text.charAt(pos), idx)
+                != expected.charAt(idx)) {
+                pos = ~pos;
+                break;
+            }
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Character of the "urn:" prefix, in lower case if it is one of
+     * the three letters; the colon is never folded.
+     * @param chr The character
+     * @param idx Its position in the prefix
+     * @return The character, maybe folded
+     */
+    private static int folded(final char chr, final int idx) {
+        int folded = chr;
+        if (idx < 3) {
+            folded |= 0x20;
+        }
+        return folded;
+    }
+
+    /**
+     * Skip NID and the colon after it.
+     * @param text The text
+     * @param start Start position or negative failure position
+     * @param end End position
+     * @return Position after the colon or negative failure position
+     */
+    private static int nid(final CharSequence text, final int start,
+        final int end) {
+        int pos = start;
+        while (pos >= 0 && pos < end
+            && Grammar.belongs(text.charAt(pos), Grammar.LOWER)) {
+            if (pos - start == Grammar.NID_LENGTH) {
+                pos = ~pos;
+            } else {
+                ++pos;
+            }
+        }
+        if (pos >= 0) {
+            if (pos == start || pos == end || text.charAt(pos) != ':') {
+                pos = ~pos;
+            } else {
+                ++pos;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Skip NSS, including all colons inside it.
+     * @param text The text
+     * @param start Start position or negative failure position
+     * @param end End position
+     * @return Position after NSS or negative failure position
+     */
+    private static int nss(final CharSequence text, final int start,
+        final int end) {
+        return Grammar.span(
+            text, start, end, Grammar.UNRESERVED | Grammar.SEPARATOR
+        );
+    }
+
+    /**
+     * Skip the query, if it is present.
+     * @param text The text
+     * @param start Start position or negative failure position
+     * @param end End position
+     * @return Position after the query or negative failure position
+     */
+    private static int query(final CharSequence text, final int start,
+        final int end) {
+        int pos = start;
+        if (pos >= 0 && pos < end && text.charAt(pos) == '?') {
+            do {
+                pos = Grammar.param(text, pos + 1, end);
+            } while (pos >= 0 && pos < end && text.charAt(pos) == '&');
+        }
+        return pos;
+    }
+
+    /**
+     * Skip one query param, with its optional value.
+     * @param text The text
+     * @param start Start position
+     * @param end End position
+     * @return Position after the param or negative failure position
+     */
+    private static int param(final CharSequence text, final int start,
+        final int end) {
+        int pos = start;
+        while (pos < end && Grammar.belongs(text.charAt(pos), Grammar.WORD)) {
+            ++pos;
+        }
+        if (pos == start) {
+            pos = ~pos;
+        } else if (pos < end && text.charAt(pos) == '=') {
+            pos = Grammar.span(text, pos + 1, end, Grammar.UNRESERVED);
+        }
+        return pos;
+    }
+
+    /**
+     * Skip safe characters and percent-escapes.
+     * @param text The text
+     * @param start Start position or negative failure position
+     * @param end End position
+     * @param cls Classes of characters allowed in the span
+     * @return Position after the span or negative failure position
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int span(final CharSequence text, final int start,
+        final int end, final int cls) {
+        int pos = start;
+        while (pos >= 0 && pos < end) {
+            final char chr = text.charAt(pos);
+            if (Grammar.belongs(chr, cls)) {
+                ++pos;
+            } else if (chr == '%') {
+                pos = Grammar.escape(text, pos, end);
+            } else {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Skip one percent-escape.
+     * @param text The text
+     * @param pos Position of the percent sign
+     * @param end End position
+     * @return Position after the escape or negative failure position
+     */
+    private static int escape(final CharSequence text, final int pos,
+        final int end) {
+        int next = pos + 1;
+        while (next < pos + 3) {
+            if (next == end
+                || !Grammar.belongs(text.charAt(next), Grammar.HEX)) {
+                next = ~next;
+                break;
+            }
+            ++next;
+        }
+        return next;
+    }
+
+    /**
+     * This character belongs to the class?
+     * @param chr The character
+     * @param cls The class
+     * @return TRUE if it belongs
+     */
+    private static boolean belongs(final char chr, final int cls) {
+        return chr < Grammar.CLASSES.length
+            && (Grammar.CLASSES[chr] & cls) != 0;
+    }
+
+    /**
+     * Build the table of character classes.
+     * @return The table
+     */
+    private static byte[] table() {
+        final byte[] table = new byte[128];
+        for (char chr = '0'; chr <= '9'; ++chr) {
+            table[chr] = Grammar.UNRESERVED | Grammar.WORD | Grammar.HEX;
+        }
+        for (char chr = 'a'; chr <= 'z'; ++chr) {
+            table[chr] = Grammar.UNRESERVED | Grammar.WORD | Grammar.LOWER;
+            table[Character.toUpperCase(chr)] = Grammar.UNRESERVED | Grammar.WORD;
+        }
+        for (char chr = 'a'; chr <= 'f'; ++chr) {
+            table[chr] |= Grammar.HEX;
+            table[Character.toUpperCase(chr)] |= Grammar.HEX;
+        }
+        table['-'] = Grammar.UNRESERVED;
+        table['/'] = Grammar.UNRESERVED;
+        table['_'] = Grammar.WORD;
+        table[':'] = Grammar.SEPARATOR;
+        return table;
+    }
+
+}
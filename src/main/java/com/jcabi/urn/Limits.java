@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+/**
+ * Limits on the size of URNs, which protect validation against huge
+ * input from untrusted clients.
+ *
+ * <p>Every limit can be changed with a system property, which is read
+ * once, when the class is loaded:
+ *
+ * <ul>
+ *  <li>{@code com.jcabi.urn.max.length}: total length of the text, in
+ *   characters, {@link #LENGTH} by default;</li>
+ *  <li>{@code com.jcabi.urn.max.nss}: length of NSS, without the query,
+ *   in characters, as they are in the text, {@link #NSS} by default;</li>
+ *  <li>{@code com.jcabi.urn.max.params}: number of params in the query,
+ *   {@link #PARAMS} by default;</li>
+ *  <li>{@code com.jcabi.urn.max.nids}: number of distinct NIDs that get
+ *   ordinals, see {@link URN#nidOrdinal()}, {@link #NIDS} by default,
+ *   at least one.</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+final class Limits {
+
+    /**
+     * Maximum length of the text.
+     */
+    static final int LENGTH = Integer.getInteger(
+        "com.jcabi.urn.max.length", 16_384
+    );
+
+    /**
+     * Maximum length of NSS.
+     */
+    static final int NSS = Integer.getInteger(
+        "com.jcabi.urn.max.nss", 8_192
+    );
+
+    /**
+     * Maximum number of params.
+     */
+    static final int PARAMS = Integer.getInteger(
+        "com.jcabi.urn.max.params", 256
+    );
+
+    /**
+     * Maximum number of NIDs with ordinals.
+     */
+    static final int NIDS = Math.max(
+        1, Integer.getInteger("com.jcabi.urn.max.nids", 1024)
+    );
+
+    /**
+     * Utility class.
+     */
+    private Limits() {
+        // intentionally empty
+    }
+
+}
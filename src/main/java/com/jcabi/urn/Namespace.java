@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Namespace ID (NID), shared by all URNs in the namespace.
+ *
+ * <p>Registered NIDs are kept in one global table and get small ordinals,
+ * starting from zero, in the order they are registered. Only NIDs given
+ * to {@link URN#register(String)} and NIDs of URNs made by code are
+ * registered, see {@link #register(CharSequence, int, int)}, while NIDs
+ * parsed from texts are only looked up, so that untrusted input can't
+ * fill the table. The table holds up to {@link Limits#NIDS} entries and
+ * never forgets them. There are no instances for NIDs that are not in it:
+ * lookups return NULL and URNs keep the NID in their text only. Lookups
+ * don't lock, only additions lock.
+ *
+ * @since 1.0
+ */
+final class Namespace {
+
+    /**
+     * Slots of the hash table, a power of two, at least twice as many
+     * as the entries, so that the table is never more than half full.
+     */
+    private static final AtomicReferenceArray<Namespace> SLOTS =
+        new AtomicReferenceArray<>(Integer.highestOneBit(Limits.NIDS) << 2);
+
+    /**
+     * Lock for additions.
+     */
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    /**
+     * Number of entries in the table.
+     */
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    /**
+     * NID of an empty URN, always the first one.
+     */
+    private static final Namespace VOID = Namespace.register("void", 0, 4);
+
+    /**
+     * The NID.
+     */
+    private final String text;
+
+    /**
+     * Its ordinal, the position in the order of registration.
+     */
+    private final int number;
+
+    /**
+     * Its hash code, the same as of the string.
+     */
+    private final int hash;
+
+    /**
+     * Ctor.
+     * @param nid The NID
+     * @param ordinal Its ordinal
+     */
+    private Namespace(final String nid, final int ordinal) {
+        this.text = nid;
+        this.number = ordinal;
+        this.hash = nid.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+
+    /**
+     * Is it the NID of an empty URN?
+     * @return TRUE if it is "void"
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    boolean empty() {
+        return this == Namespace.VOID;
+    }
+
+    /**
+     * Ordinal of the NID.
+     * @param nid The NID or NULL, if it is not registered
+     * @return The ordinal, or -1 if the NID is NULL
+     */
+    static int ordinal(final Namespace nid) {
+        int ordinal = -1;
+        if (nid != null) {
+            ordinal = nid.number;
+        }
+        return ordinal;
+    }
+
+    /**
+     * Find the NID in the table.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @return The NID or NULL, if it is not registered
+     */
+    static Namespace lookup(final CharSequence text, final int start,
+        final int end) {
+        return Namespace.find(
+            text, start, end, Namespace.hashed(text, start, end)
+        );
+    }
+
+    /**
+     * Find the NID, or add it to the table, if it's valid and the table is
+     * not full yet.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @return The NID or NULL, if it can't be registered
+     */
+    static Namespace register(final CharSequence text, final int start,
+        final int end) {
+        final int hash = Namespace.hashed(text, start, end);
+        Namespace found = Namespace.find(text, start, end, hash);
+        if (found == null && Namespace.COUNT.get() < Limits.NIDS) {
+            found = Namespace.add(text, start, end, hash);
+        }
+        return found;
+    }
+
+    /**
+     * The NID as a string, shared by all URNs, if the NID is registered,
+     * or a fresh one, if it is not.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @return The NID
+     */
+    static String nid(final CharSequence text, final int start,
+        final int end) {
+        final Namespace found = Namespace.lookup(text, start, end);
+        final String nid;
+        if (found == null) {
+            nid = text.subSequence(start, end).toString();
+        } else {
+            nid = found.text;
+        }
+        return nid;
+    }
+
+    /**
+     * Hash code of the NID, the same as of the string.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @return The hash code
+     */
+    private static int hashed(final CharSequence text, final int start,
+        final int end) {
+        int hash = 0;
+        for (int idx = start; idx < end; ++idx) {
+            hash = 31 * hash + text.charAt(idx);
+        }
+        return hash;
+    }
+
+    /**
+     * Find the NID in the table.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @param hash Hash code of the NID
+     * @return The NID found or NULL
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Namespace find(final CharSequence text, final int start,
+        final int end, final int hash) {
+        final int mask = Namespace.SLOTS.length() - 1;
+        int slot = (hash ^ hash >>> 16) & mask;
+        Namespace found = null;
+        Namespace entry = Namespace.SLOTS.get(slot);
+        while (entry != null && found == null) {
+            if (entry.hash == hash && entry.same(text, start, end)) {
+                found = entry;
+            }
+            slot = slot + 1 & mask;
+            entry = Namespace.SLOTS.get(slot);
+        }
+        return found;
+    }
+
+    /**
+     * Add the NID to the table, if it's valid and the table is not full.
+     * @param text The text, which contains the NID
+     * @param start Position of the first character of the NID
+     * @param end Position after the last character of the NID
+     * @param hash Hash code of the NID
+     * @return The NID added or NULL
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Namespace add(final CharSequence text, final int start,
+        final int end, final int hash) {
+        final String nid = text.subSequence(start, end).toString();
+        Namespace.LOCK.lock();
+        try {
+            Namespace added = Namespace.find(text, start, end, hash);
+            if (added == null && Namespace.COUNT.get() < Limits.NIDS
+                && Grammar.identifier(nid)) {
+                added = new Namespace(nid, Namespace.COUNT.get());
+                final int mask = Namespace.SLOTS.length() - 1;
+                int slot = (hash ^ hash >>> 16) & mask;
+                while (Namespace.SLOTS.get(slot) != null) {
+                    slot = slot + 1 & mask;
+                }
+                Namespace.SLOTS.set(slot, added);
+                Namespace.COUNT.incrementAndGet();
+            }
+            return added;
+        } finally {
+            Namespace.LOCK.unlock();
+        }
+    }
+
+    /**
+     * This NID is equal to the range of the text?
+     * @param chars The text
+     * @param start Start of the range
+     * @param end End of the range
+     * @return TRUE if equal
+     */
+    private boolean same(final CharSequence chars, final int start,
+        final int end) {
+        boolean same = end - start == this.text.length();
+        for (int idx = 0; same && idx < this.text.length(); ++idx) {
+            same = this.text.charAt(idx) == chars.charAt(start + idx);
+        }
+        return same;
+    }
+
+}
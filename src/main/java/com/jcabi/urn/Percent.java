@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Percent-encoding and decoding of NSS and param values, in UTF-8.
+ *
+ * <p>Characters that {@link Grammar#safe(char)} allows stay as they are,
+ * all others are encoded byte by byte as "%XX". The text is encoded
+ * in two passes: the first one finds the exact length of the result
+ * (and returns the text as is, if nothing has to be encoded), the second
+ * one writes it into a char array of that length.
+ *
+ * <p>Decoding is done in one pass, since the result is never longer than
+ * the source. Unlike {@link java.net.URLDecoder}, the decoder doesn't
+ * turn "+" into a space and doesn't tolerate malformed UTF-8 sequences,
+ * it throws {@link IllegalArgumentException} for them.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class Percent {
+
+    /**
+     * Hexadecimal digits.
+     */
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Values of hexadecimal digits, by ASCII characters, -1 for characters
+     * that are not digits.
+     */
+    private static final byte[] VALUES = Percent.table();
+
+    /**
+     * The byte that {@link String#getBytes(java.nio.charset.Charset)}
+     * writes instead of an unpaired surrogate.
+     */
+    private static final int UNKNOWN = '?';
+
+    /**
+     * Length of one encoded byte.
+     */
+    private static final int WIDTH = 3;
+
+    /**
+     * Bits of the leading byte that belong to the code point, by the
+     * length of the UTF-8 sequence.
+     */
+    private static final int[] MASKS = {0, 0x7F, 0x1F, 0x0F, 0x07};
+
+    /**
+     * Smallest code point that can be encoded, by the length of the UTF-8
+     * sequence, to reject overlong sequences.
+     */
+    private static final int[] SMALLEST = {0, 0, 0x80, 0x800, 0x10000};
+
+    /**
+     * Utility class.
+     */
+    private Percent() {
+        // intentionally empty
+    }
+
+    /**
+     * Encode the text.
+     * @param text The text to encode
+     * @return The encoded text, or the same text if nothing is encoded
+     */
+    static String encode(final String text) {
+        final int length = Percent.length(text);
+        final String encoded;
+        if (length == text.length()) {
+            encoded = text;
+        } else {
+            final char[] out = new char[length];
+            int pos = 0;
+            int idx = 0;
+            while (idx < text.length()) {
+                final char chr = text.charAt(idx);
+                if (Grammar.safe(chr)) {
+                    out[pos] = chr;
+                    ++pos;
+                } else if (chr < 0x80) {
+                    pos = Percent.escape(out, pos, chr);
+                } else if (chr < 0x800) {
+                    pos = Percent.escape(out, pos, 0xC0 | chr >> 6);
+                    pos = Percent.escape(out, pos, 0x80 | chr & 0x3F);
+                } else if (Percent.paired(text, idx)) {
+                    pos = Percent.supplementary(
+                        out, pos,
+                        Character.toCodePoint(chr, text.charAt(idx + 1))
+                    );
+                    ++idx;
+                } else if (Character.isSurrogate(chr)) {
+                    pos = Percent.escape(out, pos, Percent.UNKNOWN);
+                } else {
+                    pos = Percent.escape(out, pos, 0xE0 | chr >> 12);
+                    pos = Percent.escape(out, pos, 0x80 | chr >> 6 & 0x3F);
+                    pos = Percent.escape(out, pos, 0x80 | chr & 0x3F);
+                }
+                ++idx;
+            }
+            encoded = new String(out);
+        }
+        return encoded;
+    }
+
+    /**
+     * Decode a range of the text.
+     * @param text The text to decode
+     * @param from Position of the first character to decode
+     * @param end Position after the last character to decode
+     * @return Decoded text, or the range as is, if nothing is encoded
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    static String decode(final String text, final int from, final int end) {
+        final int first = text.indexOf('%', from);
+        final String decoded;
+        if (first < 0 || first >= end) {
+            decoded = text.substring(from, end);
+        } else {
+            final char[] out = new char[end - from];
+            text.getChars(from, first, out, 0);
+            int pos = first - from;
+            int idx = first;
+            while (idx < end) {
+                final char chr = text.charAt(idx);
+                if (chr == '%') {
+                    final int code = Percent.code(text, idx, end);
+                    pos += Character.toChars(code, out, pos);
+                    idx += Percent.WIDTH * Percent.size(code);
+                } else {
+                    out[pos] = chr;
+                    ++pos;
+                    ++idx;
+                }
+            }
+            decoded = new String(out, 0, pos);
+        }
+        return decoded;
+    }
+
+    /**
+     * Decode a range of ASCII bytes, without making a string of the
+     * whole array.
+     * @param bytes The bytes to decode, one per character
+     * @param from Position of the first byte to decode
+     * @param end Position after the last byte to decode
+     * @return Decoded text
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    static String decode(final byte[] bytes, final int from, final int end) {
+        int first = from;
+        while (first < end && bytes[first] != '%') {
+            ++first;
+        }
+        final String decoded;
+        if (first == end) {
+            decoded = new String(
+                bytes, from, end - from, StandardCharsets.ISO_8859_1
+            );
+        } else {
+            final StringBuilder out = new StringBuilder(end - from);
+            try {
+                Percent.decode(
+                    Ascii.slice(bytes, 0, bytes.length), from, end, out
+                );
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            decoded = out.toString();
+        }
+        return decoded;
+    }
+
+    /**
+     * Decode a range of the text, writing the result to the output,
+     * without making any strings.
+     * @param text The text
+     * @param from Start of the range
+     * @param end End of the range
+     * @param out Where to write
+     * @throws IOException If fails to write
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    static void decode(final CharSequence text, final int from,
+        final int end, final Appendable out) throws IOException {
+        int idx = from;
+        int plain = from;
+        while (idx < end) {
+            if (text.charAt(idx) == '%') {
+                Percent.copy(text, plain, idx, out);
+                final int code = Percent.code(text, idx, end);
+                if (Character.isBmpCodePoint(code)) {
+                    out.append((char) code);
+                } else {
+                    out.append(Character.highSurrogate(code))
+                        .append(Character.lowSurrogate(code));
+                }
+                idx += Percent.WIDTH * Percent.size(code);
+                plain = idx;
+            } else {
+                ++idx;
+            }
+        }
+        Percent.copy(text, plain, end, out);
+    }
+
+    /**
+     * Copy a range of the text to the output as is.
+     *
+     * <p>Builders take the range at once, while other outputs, like
+     * {@link java.io.Writer}, get it char by char, since they would make a
+     * substring out of the range otherwise.
+     *
+     * @param text The text
+     * @param from Start of the range
+     * @param end End of the range
+     * @param out Where to write
+     * @throws IOException If fails to write
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void copy(final CharSequence text, final int from,
+        final int end, final Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(text, from, end);
+        } else {
+            for (int idx = from; idx < end; ++idx) {
+                out.append(text.charAt(idx));
+            }
+        }
+    }
+
+    /**
+     * Decode one UTF-8 sequence of percent-encoded bytes.
+     * @param text The text
+     * @param start Position of the first percent sign
+     * @param end End of the text
+     * @return The code point
+     */
+    private static int code(final CharSequence text, final int start,
+        final int end) {
+        final int lead = Percent.octet(text, start, end);
+        final int size = Percent.sequence(lead);
+        if (size == 0) {
+            throw Percent.malformed(text, start);
+        }
+        int code = lead & Percent.MASKS[size];
+        for (int idx = 1; idx < size; ++idx) {
+            final int octet = Percent.octet(
+                text, start + idx * Percent.WIDTH, end
+            );
+            if ((octet & 0xC0) != 0x80) {
+                throw Percent.malformed(text, start);
+            }
+            code = code << 6 | octet & 0x3F;
+        }
+        if (code < Percent.SMALLEST[size] || code > Character.MAX_CODE_POINT
+            || code >= Character.MIN_SURROGATE
+            && code <= Character.MAX_SURROGATE) {
+            throw Percent.malformed(text, start);
+        }
+        return code;
+    }
+
+    /**
+     * Read one percent-encoded byte.
+     * @param text The text
+     * @param pos Position of the percent sign
+     * @param end End of the text
+     * @return The byte, from 0 to 255
+     */
+    private static int octet(final CharSequence text, final int pos,
+        final int end) {
+        if (pos + Percent.WIDTH > end || text.charAt(pos) != '%') {
+            throw Percent.malformed(text, pos);
+        }
+        final int high = Percent.hex(text.charAt(pos + 1));
+        final int low = Percent.hex(text.charAt(pos + 2));
+        if (high < 0 || low < 0) {
+            throw Percent.malformed(text, pos);
+        }
+        return high << 4 | low;
+    }
+
+    /**
+     * Value of a hexadecimal digit, only an ASCII one, unlike
+     * {@link Character#digit(char, int)}, which takes digits of all
+     * scripts.
+     * @param chr The character
+     * @return The value, or -1 if it is not a digit
+     */
+    private static int hex(final char chr) {
+        int value = -1;
+        if (chr < Percent.VALUES.length) {
+            value = Percent.VALUES[chr];
+        }
+        return value;
+    }
+
+    /**
+     * Make the table of values of hexadecimal digits.
+     * @return The table
+     */
+    private static byte[] table() {
+        final byte[] values = new byte[0x80];
+        Arrays.fill(values, (byte) -1);
+        for (int idx = 0; idx < Percent.DIGITS.length; ++idx) {
+            values[Percent.DIGITS[idx]] = (byte) idx;
+            values[Character.toLowerCase(Percent.DIGITS[idx])] = (byte) idx;
+        }
+        return values;
+    }
+
+    /**
+     * Length of UTF-8 sequence, by its leading byte.
+     * @param lead The leading byte
+     * @return Length, from 1 to 4
+     */
+    private static int sequence(final int lead) {
+        final int size;
+        if (lead < 0x80) {
+            size = 1;
+        } else if ((lead & 0xE0) == 0xC0) {
+            size = 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            size = 3;
+        } else if ((lead & 0xF8) == 0xF0) {
+            size = 4;
+        } else {
+            size = 0;
+        }
+        return size;
+    }
+
+    /**
+     * Length of UTF-8 sequence, by the code point.
+     * @param code The code point
+     * @return Length, from 1 to 4
+     */
+    private static int size(final int code) {
+        final int size;
+        if (code < 0x80) {
+            size = 1;
+        } else if (code < 0x800) {
+            size = 2;
+        } else if (code < 0x10000) {
+            size = 3;
+        } else {
+            size = 4;
+        }
+        return size;
+    }
+
+    /**
+     * Make an exception about malformed encoding.
+     * @param text The text
+     * @param pos Position of the problem
+     * @return The exception
+     */
+    private static IllegalArgumentException malformed(
+        final CharSequence text, final int pos) {
+        return new IllegalArgumentException(
+            String.format(
+                "Malformed UTF-8 sequence at position %d in %s",
+                pos, Grammar.quoted(text)
+            )
+        );
+    }
+
+    /**
+     * Calculate the length of the encoded text.
+     * @param text The text to encode
+     * @return Length of the encoded text
+     */
+    private static int length(final String text) {
+        int length = 0;
+        int idx = 0;
+        while (idx < text.length()) {
+            final char chr = text.charAt(idx);
+            if (Grammar.safe(chr)) {
+                ++length;
+            } else if (chr < 0x80 || Character.isSurrogate(chr)
+                && !Percent.paired(text, idx)) {
+                length += Percent.WIDTH;
+            } else if (chr < 0x800) {
+                length += Percent.WIDTH * 2;
+            } else if (Character.isHighSurrogate(chr)) {
+                length += Percent.WIDTH * 4;
+                ++idx;
+            } else {
+                length += Percent.WIDTH * 3;
+            }
+            ++idx;
+        }
+        return length;
+    }
+
+    /**
+     * There is a valid surrogate pair at this position?
+     * @param text The text
+     * @param idx Position of the high surrogate
+     * @return TRUE if the pair is valid
+     */
+    private static boolean paired(final String text, final int idx) {
+        return Character.isHighSurrogate(text.charAt(idx))
+            && idx + 1 < text.length()
+            && Character.isLowSurrogate(text.charAt(idx + 1));
+    }
+
+    /**
+     * Encode a supplementary code point as four bytes.
+     * @param out Where to write
+     * @param start Position to write at
+     * @param code The code point
+     * @return Position after the written bytes
+     */
+    private static int supplementary(final char[] out, final int start,
+        final int code) {
+        int pos = Percent.escape(out, start, 0xF0 | code >> 18);
+        pos = Percent.escape(out, pos, 0x80 | code >> 12 & 0x3F);
+        pos = Percent.escape(out, pos, 0x80 | code >> 6 & 0x3F);
+        return Percent.escape(out, pos, 0x80 | code & 0x3F);
+    }
+
+    /**
+     * Write one byte as "%XX".
+     * @param out Where to write
+     * @param pos Position to write at
+     * @param octet The byte
+     * @return Position after the written byte
+     */
+    private static int escape(final char[] out, final int pos,
+        final int octet) {
+        out[pos] = '%';
+        out[pos + 1] = Percent.DIGITS[octet >> 4 & 0xF];
+        out[pos + 2] = Percent.DIGITS[octet & 0xF];
+        return pos + Percent.WIDTH;
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Scanner of the query part of a URN, which works right on the text
+ * of the URN, without splitting it.
+ *
+ * <p>Params in the query are separated by "&amp;", a name is separated
+ * from its value by "=". If the same name appears more than once, the
+ * last value wins, exactly like it happens in {@link URN#params()}.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Query {
+
+    /**
+     * Utility class.
+     */
+    private Query() {
+        // intentionally empty
+    }
+
+    /**
+     * Find the value of a param.
+     * @param text The text of the URN
+     * @param query Position of the question mark, or length of the text
+     * @param name Name of the param
+     * @return Start and end of the value, packed into one number, or
+     *  a negative number if there is no such param
+     */
+    static long find(final CharSequence text, final int query,
+        final String name) {
+        long found = -1L;
+        int start = query + 1;
+        if (name.indexOf('=') >= 0 || name.indexOf('&') >= 0) {
+            start = text.length();
+        }
+        while (start < text.length()) {
+            final int end = Query.next(text, start);
+            final int equals = start + name.length();
+            if (Query.named(text, start, name)
+                && (equals == end || text.charAt(equals) == '=')) {
+                found = Query.pack(Math.min(equals + 1, end), end);
+            }
+            start = end + 1;
+        }
+        return found;
+    }
+
+    /**
+     * Find the value of a param, which must be there.
+     * @param text The text of the URN
+     * @param query Position of the question mark or length of the text
+     * @param name Name of the param
+     * @return Start and end of the value, packed into one number
+     * @throws IllegalArgumentException If there is no such param
+     */
+    static long found(final String text, final int query,
+        final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("param name can't be NULL");
+        }
+        final long found = Query.find(text, query, name);
+        if (found < 0L) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Param '%s' not found in '%s', among %s",
+                    name, text, Query.names(text.substring(query))
+                )
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Start of the value.
+     * @param found Result of {@link #find(CharSequence, int, String)}
+     * @return Position of the first character of the value
+     */
+    static int start(final long found) {
+        return (int) (found >>> Integer.SIZE);
+    }
+
+    /**
+     * End of the value.
+     * @param found Result of {@link #find(CharSequence, int, String)}
+     * @return Position after the last character of the value
+     */
+    static int end(final long found) {
+        return (int) found;
+    }
+
+    /**
+     * Value of a param as a number, decoded only if it has
+     * percent-encoded characters.
+     * @param text The text
+     * @param found Start and end of the value, see {@link #find}
+     * @return The number
+     * @throws NumberFormatException If it is not a number
+     */
+    static long number(final String text, final long found) {
+        final int start = Query.start(found);
+        final int end = Query.end(found);
+        final long number;
+        if (text.lastIndexOf('%', end - 1) >= start) {
+            number = Long.parseLong(Percent.decode(text, start, end));
+        } else {
+            number = Query.number(text, start, end);
+        }
+        return number;
+    }
+
+    /**
+     * Value of a param as a boolean, the same way
+     * {@link Boolean#parseBoolean(String)} does.
+     * @param text The text
+     * @param found Start and end of the value, see {@link #find}
+     * @return TRUE if the value is "true", ignoring case
+     */
+    static boolean truth(final String text, final long found) {
+        final int start = Query.start(found);
+        final int end = Query.end(found);
+        final String truth = Boolean.TRUE.toString();
+        final boolean bool;
+        if (text.lastIndexOf('%', end - 1) >= start) {
+            bool = Boolean.parseBoolean(Percent.decode(text, start, end));
+        } else {
+            bool = end - start == truth.length()
+                && text.regionMatches(true, start, truth, 0, end - start);
+        }
+        return bool;
+    }
+
+    /**
+     * Parse a decimal number in a range of the text, with an optional
+     * minus sign, without making a string out of it.
+     * @param text The text
+     * @param start Position of the first character
+     * @param end Position after the last character
+     * @return The number
+     * @throws NumberFormatException If it is not a number
+     */
+    static long number(final String text, final int start, final int end) {
+        int pos = start;
+        final boolean negative = pos < end && text.charAt(pos) == '-';
+        if (negative) {
+            ++pos;
+        }
+        if (pos == end) {
+            throw Query.nan(text, start, end);
+        }
+        long number = 0L;
+        while (pos < end) {
+            final int digit = text.charAt(pos) - '0';
+            if (digit < 0 || digit > 9
+                || number < (Long.MIN_VALUE + digit) / 10) {
+                throw Query.nan(text, start, end);
+            }
+            number = number * 10 - digit;
+            ++pos;
+        }
+        if (!negative) {
+            if (number == Long.MIN_VALUE) {
+                throw Query.nan(text, start, end);
+            }
+            number = -number;
+        }
+        return number;
+    }
+
+    /**
+     * Decode query part of the URN into Map.
+     * @param query The query, starting with "?", or empty string
+     * @return The map of values
+     */
+    static Map<String, String> demap(final String query) {
+        final Map<String, String> map = new TreeMap<>();
+        if (!query.isEmpty()) {
+            final String[] parts = StringUtils.split(query.substring(1), '&');
+            for (final String part : parts) {
+                final String[] pair = StringUtils.split(part, '=');
+                final String value;
+                if (pair.length == 2) {
+                    value = Percent.decode(pair[1], 0, pair[1].length());
+                } else {
+                    value = "";
+                }
+                map.put(pair[0], value);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Names of params in the query, sorted, without decoding any values.
+     * @param query The query, starting with "?", or empty string
+     * @return The names
+     */
+    static Set<String> names(final String query) {
+        final Set<String> names = new TreeSet<>();
+        if (!query.isEmpty()) {
+            final String[] parts = StringUtils.split(query.substring(1), '&');
+            for (final String part : parts) {
+                names.add(StringUtils.split(part, '=')[0]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Find the end of the param.
+     * @param text The text
+     * @param start Start of the param
+     * @return Position of the next ampersand or the end of the text
+     */
+    private static int next(final CharSequence text, final int start) {
+        int end = start;
+        while (end < text.length() && text.charAt(end) != '&') {
+            ++end;
+        }
+        return end;
+    }
+
+    /**
+     * The text has this name at this position?
+     * @param text The text
+     * @param start The position
+     * @param name The name
+     * @return TRUE if it has
+     */
+    private static boolean named(final CharSequence text, final int start,
+        final String name) {
+        boolean named = start + name.length() <= text.length();
+        for (int idx = 0; named && idx < name.length(); ++idx) {
+            named = text.charAt(start + idx) == name.charAt(idx);
+        }
+        return named;
+    }
+
+    /**
+     * Pack start and end of a value.
+     * @param start Start of the value
+     * @param end End of the value
+     * @return Packed number
+     */
+    private static long pack(final int start, final int end) {
+        return (long) start << Integer.SIZE | end;
+    }
+
+    /**
+     * Make an exception about a wrong number.
+     * @param text The text
+     * @param start Start of the number
+     * @param end End of the number
+     * @return The exception
+     */
+    private static NumberFormatException nan(final String text,
+        final int start, final int end) {
+        return new NumberFormatException(
+            String.format(
+                "For input string: \"%s\"", text.substring(start, end)
+            )
+        );
+    }
+
+}
@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Persistent radix tree of texts: a node of it, with the whole subtree.
+ *
+ * <p>Nodes are never changed: {@link #update(CharSequence, UnaryOperator)}
+ * copies the path from the root to the updated node and shares the rest
+ * with the original tree, so readers may walk an old root while a new
+ * one is being made, without any locks. Every node keeps the label of the
+ * edge that leads to it, a value, which may be NULL, and its children,
+ * sorted by the first characters of their labels. Nodes without values
+ * have at least two children, except the root. Since children are sorted
+ * by characters, texts come out of {@link #entries(CharSequence)} in the
+ * order of {@link String#compareTo(String)}.
+ *
+ * @param <V> Type of values
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Radix<V> {
+
+    /**
+     * First characters of children of leaves, shared by all of them.
+     */
+    private static final char[] NONE = new char[0];
+
+    /**
+     * Children of leaves, shared by all of them.
+     */
+    private static final Radix<?>[] BARE = new Radix<?>[0];
+
+    /**
+     * Label of the edge to this node.
+     */
+    private final String label;
+
+    /**
+     * The value, or NULL.
+     */
+    private final V value;
+
+    /**
+     * First characters of labels of the children, sorted.
+     */
+    private final char[] firsts;
+
+    /**
+     * The children, in the order of {@link #firsts}.
+     */
+    private final Radix<V>[] kids;
+
+    /**
+     * Number of values in the subtree.
+     */
+    private final int count;
+
+    /**
+     * Ctor of an empty root.
+     */
+    Radix() {
+        this("", null, Radix.NONE, Radix.leaf());
+    }
+
+    /**
+     * Ctor.
+     * @param text Label of the edge
+     * @param val The value or NULL
+     * @param chars First characters of labels of the children
+     * @param nodes The children
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private Radix(final String text, final V val, final char[] chars,
+        final Radix<V>[] nodes) {
+        this.label = text;
+        this.value = val;
+        this.firsts = chars;
+        this.kids = nodes;
+        this.count = Radix.total(val, nodes);
+    }
+
+    /**
+     * Find the value of the text.
+     * @param key The text
+     * @return The value or NULL
+     */
+    V get(final CharSequence key) {
+        Radix<V> node = this;
+        int pos = 0;
+        while (node != null && pos < key.length()) {
+            node = node.kid(key, pos);
+            if (node != null) {
+                pos += node.label.length();
+            }
+        }
+        V found = null;
+        if (node != null) {
+            found = node.value;
+        }
+        return found;
+    }
+
+    /**
+     * Visit values of this node and all nodes below it, whose texts are
+     * prefixes of the key, from the shortest to the longest.
+     * @param key The key
+     * @param visitor The visitor
+     */
+    void walk(final CharSequence key, final Radix.Visitor<V> visitor) {
+        Radix<V> node = this;
+        int pos = 0;
+        boolean more = true;
+        while (more) {
+            if (node.value != null) {
+                visitor.visit(node.value, pos == key.length());
+            }
+            more = pos < key.length();
+            if (more) {
+                node = node.kid(key, pos);
+                more = node != null;
+            }
+            if (more) {
+                pos += node.label.length();
+            }
+        }
+    }
+
+    /**
+     * Make a new tree, where the value of the key is changed.
+     *
+     * <p>Must be called on the root only. The function gets the current
+     * value of the key, or NULL if there is none, and returns the new
+     * value, or NULL to remove the key. If the function returns the value
+     * it gets, the same tree is returned.
+     *
+     * @param key The key
+     * @param fun The function
+     * @return New root
+     */
+    Radix<V> update(final CharSequence key, final UnaryOperator<V> fun) {
+        return this.updated(key, 0, fun);
+    }
+
+    /**
+     * Is it empty, without any values?
+     * @return TRUE if it is
+     */
+    boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Number of values in the tree.
+     * @return The number
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Iterate texts that start with the prefix, with their values, in
+     * the order of texts.
+     * @param prefix The prefix
+     * @return Texts and values
+     */
+    Iterator<Map.Entry<String, V>> entries(final CharSequence prefix) {
+        Radix<V> node = this;
+        int pos = 0;
+        while (node != null && pos < prefix.length()) {
+            final int idx = Arrays.binarySearch(
+                node.firsts, prefix.charAt(pos)
+            );
+            Radix<V> kid = null;
+            if (idx >= 0) {
+                final String text = node.kids[idx].label;
+                final int common = Radix.common(text, prefix, pos);
+                if (common == text.length() || pos + common == prefix.length()) {
+                    kid = node.kids[idx];
+                    pos += text.length();
+                }
+            }
+            node = kid;
+        }
+        final Iterator<Map.Entry<String, V>> entries;
+        if (node == null) {
+            entries = Collections.emptyIterator();
+        } else {
+            entries = new Radix.Entries<>(
+                node,
+                prefix.subSequence(0, pos - node.label.length()).toString()
+                    .concat(node.label)
+            );
+        }
+        return entries;
+    }
+
+    /**
+     * Find the child, whose label is in the key at this position.
+     * @param key The key
+     * @param pos Position in the key
+     * @return The child or NULL
+     */
+    private Radix<V> kid(final CharSequence key, final int pos) {
+        final int idx = Arrays.binarySearch(this.firsts, key.charAt(pos));
+        Radix<V> kid = null;
+        if (idx >= 0) {
+            final String text = this.kids[idx].label;
+            if (Radix.common(text, key, pos) == text.length()) {
+                kid = this.kids[idx];
+            }
+        }
+        return kid;
+    }
+
+    /**
+     * Update the key in the subtree of this node.
+     * @param key The key
+     * @param pos Position in the key after the label of this node
+     * @param fun The function
+     * @return New node, maybe without value and children
+     */
+    private Radix<V> updated(final CharSequence key, final int pos,
+        final UnaryOperator<V> fun) {
+        final Radix<V> node;
+        if (pos == key.length()) {
+            final V val = fun.apply(this.value);
+            if (val == this.value) {
+                node = this;
+            } else {
+                node = new Radix<>(this.label, val, this.firsts, this.kids);
+            }
+        } else {
+            final int idx = Arrays.binarySearch(this.firsts, key.charAt(pos));
+            if (idx < 0) {
+                node = this.grown(key, pos, fun.apply(null), -idx - 1);
+            } else {
+                node = this.replaced(idx, this.kids[idx].split(key, pos, fun));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Update the key in the subtree of this node, splitting the label of
+     * this node, if the key leaves it in the middle.
+     * @param key The key
+     * @param pos Position in the key before the label of this node
+     * @param fun The function
+     * @return New node, maybe without value and children
+     */
+    private Radix<V> split(final CharSequence key, final int pos,
+        final UnaryOperator<V> fun) {
+        final int common = Radix.common(this.label, key, pos);
+        final Radix<V> node;
+        if (common == this.label.length()) {
+            node = this.updated(key, pos + common, fun);
+        } else {
+            final V val = fun.apply(null);
+            if (val == null) {
+                node = this;
+            } else {
+                node = this.forked(common).updated(
+                    key, pos + common, old -> val
+                );
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Split the label of this node into two nodes.
+     * @param common Where to split the label
+     * @return New node with the first part of the label
+     */
+    private Radix<V> forked(final int common) {
+        final Radix<V> tail = new Radix<>(
+            this.label.substring(common), this.value, this.firsts, this.kids
+        );
+        final Radix<V>[] nodes = Radix.nodes(1);
+        nodes[0] = tail;
+        return new Radix<>(
+            this.label.substring(0, common), null,
+            new char[] {tail.label.charAt(0)}, nodes
+        );
+    }
+
+    /**
+     * Add a new child with the rest of the key.
+     * @param key The key
+     * @param pos Position in the key where the child starts
+     * @param val The value of the child, or NULL
+     * @param idx Where to insert it
+     * @return New node
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Radix<V> grown(final CharSequence key, final int pos,
+        final V val, final int idx) {
+        final Radix<V> node;
+        if (val == null) {
+            node = this;
+        } else {
+            final char[] chars = new char[this.firsts.length + 1];
+            final Radix<V>[] nodes = Radix.nodes(this.kids.length + 1);
+            System.arraycopy(this.firsts, 0, chars, 0, idx);
+            System.arraycopy(this.kids, 0, nodes, 0, idx);
+            chars[idx] = key.charAt(pos);
+            nodes[idx] = new Radix<>(
+                key.subSequence(pos, key.length()).toString(), val,
+                Radix.NONE, Radix.leaf()
+            );
+            System.arraycopy(
+                this.firsts, idx, chars, idx + 1, this.firsts.length - idx
+            );
+            System.arraycopy(
+                this.kids, idx, nodes, idx + 1, this.kids.length - idx
+            );
+            node = new Radix<>(this.label, this.value, chars, nodes);
+        }
+        return node;
+    }
+
+    /**
+     * Replace a child, removing or merging it if it has no value.
+     * @param idx Position of the child
+     * @param kid New child
+     * @return New node
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private Radix<V> replaced(final int idx, final Radix<V> kid) {
+        final Radix<V> node;
+        if (kid == this.kids[idx]) {
+            node = this;
+        } else if (kid.isEmpty()) {
+            final char[] chars = new char[this.firsts.length - 1];
+            final Radix<V>[] nodes = Radix.nodes(this.kids.length - 1);
+            System.arraycopy(this.firsts, 0, chars, 0, idx);
+            System.arraycopy(this.kids, 0, nodes, 0, idx);
+            System.arraycopy(
+                this.firsts, idx + 1, chars, idx, chars.length - idx
+            );
+            System.arraycopy(this.kids, idx + 1, nodes, idx, nodes.length - idx);
+            node = new Radix<>(this.label, this.value, chars, nodes);
+        } else {
+            final Radix<V>[] nodes = this.kids.clone();
+            nodes[idx] = kid.merged();
+            node = new Radix<>(this.label, this.value, this.firsts, nodes);
+        }
+        return node;
+    }
+
+    /**
+     * Merge this node with its only child, if it has no value.
+     * @return This node or the merged one
+     */
+    private Radix<V> merged() {
+        final Radix<V> node;
+        if (this.value == null && this.kids.length == 1) {
+            final Radix<V> kid = this.kids[0];
+            node = new Radix<>(
+                this.label.concat(kid.label), kid.value, kid.firsts, kid.kids
+            );
+        } else {
+            node = this;
+        }
+        return node;
+    }
+
+    /**
+     * Length of the common prefix of the label and the rest of the key.
+     * @param text The label
+     * @param key The key
+     * @param pos Position in the key
+     * @return The length
+     */
+    private static int common(final String text, final CharSequence key,
+        final int pos) {
+        final int max = Math.min(text.length(), key.length() - pos);
+        int len = 0;
+        while (len < max && text.charAt(len) == key.charAt(pos + len)) {
+            ++len;
+        }
+        return len;
+    }
+
+    /**
+     * Number of values in the subtree.
+     * @param val The value of the node, or NULL
+     * @param nodes Children of the node
+     * @param <V> Type of values
+     * @return The number
+     */
+    @SafeVarargs
+    private static <V> int total(final V val, final Radix<V>... nodes) {
+        int total = 0;
+        if (val != null) {
+            total = 1;
+        }
+        for (final Radix<V> node : nodes) {
+            total += node.count;
+        }
+        return total;
+    }
+
+    /**
+     * Children of a leaf.
+     * @param <V> Type of values
+     * @return The empty array
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Radix<V>[] leaf() {
+        return (Radix<V>[]) Radix.BARE;
+    }
+
+    /**
+     * Make an array of nodes.
+     * @param size Size of it
+     * @param <V> Type of values
+     * @return The array
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Radix<V>[] nodes(final int size) {
+        return (Radix<V>[]) new Radix<?>[size];
+    }
+
+    /**
+     * Iterator of texts and values of a subtree, in pre-order.
+     *
+     * @param <V> Type of values
+     * @since 1.0
+     */
+    private static final class Entries<V>
+        implements Iterator<Map.Entry<String, V>> {
+
+        /**
+         * Nodes to visit, the next one on top.
+         */
+        private final Deque<Radix<V>> nodes;
+
+        /**
+         * Texts of the nodes to visit, in the same order.
+         */
+        private final Deque<String> texts;
+
+        /**
+         * The next entry, if it is already found.
+         */
+        private final Deque<Map.Entry<String, V>> ready;
+
+        /**
+         * Ctor.
+         * @param node The top node of the subtree
+         * @param text Text of the node
+         */
+        Entries(final Radix<V> node, final String text) {
+            this.nodes = new ArrayDeque<>(Collections.singleton(node));
+            this.texts = new ArrayDeque<>(Collections.singleton(text));
+            this.ready = new ArrayDeque<>(1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.ready.isEmpty() && !this.nodes.isEmpty()) {
+                final Radix<V> node = this.nodes.pop();
+                final String text = this.texts.pop();
+                for (int idx = node.kids.length - 1; idx >= 0; --idx) {
+                    this.nodes.push(node.kids[idx]);
+                    this.texts.push(text.concat(node.kids[idx].label));
+                }
+                if (node.value != null) {
+                    this.ready.add(
+                        new AbstractMap.SimpleImmutableEntry<>(text, node.value)
+                    );
+                }
+            }
+            return !this.ready.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more texts in the tree");
+            }
+            return this.ready.pop();
+        }
+    }
+
+    /**
+     * Visitor of values.
+     *
+     * @param <V> Type of values
+     * @since 1.0
+     */
+    interface Visitor<V> {
+        /**
+         * Visit a value.
+         * @param value The value
+         * @param whole TRUE if the text of the value is the whole key,
+         *  FALSE if it is a shorter prefix of it
+         */
+        void visit(V value, boolean whole);
+    }
+
+}
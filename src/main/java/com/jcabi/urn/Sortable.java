@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keys of URNs, in the same order as URNs.
+ *
+ * <p>The key is the text of the URN without its "urn:" prefix, one byte
+ * per character, preceded by one byte that tells how the prefix was
+ * written, since it is case-insensitive: from 0 for "URN:" to 7 for
+ * "urn:", in the order of {@link String#compareTo(String)}. Since all
+ * characters of a URN are ASCII, keys compared as unsigned bytes, for
+ * example by {@link java.util.Arrays#compareUnsigned(byte[], byte[])}
+ * in Java 9+, are in the same order as {@link URN#compareTo(URN)}.
+ *
+ * @since 1.0
+ */
+final class Sortable {
+
+    /**
+     * Letters of the prefix.
+     */
+    private static final String LETTERS = "urn";
+
+    /**
+     * Length of the prefix, with the colon.
+     */
+    private static final int LENGTH = 4;
+
+    /**
+     * Number of ways to write the prefix.
+     */
+    private static final int WAYS = 8;
+
+    /**
+     * Utility class.
+     */
+    private Sortable() {
+        // intentionally empty
+    }
+
+    /**
+     * Key of a valid URN.
+     * @param text The text of the URN
+     * @return The key
+     */
+    static byte[] key(final String text) {
+        final byte[] key = new byte[text.length() - Sortable.LENGTH + 1];
+        key[0] = (byte) Sortable.code(text);
+        for (int idx = Sortable.LENGTH; idx < text.length(); ++idx) {
+            key[idx - Sortable.LENGTH + 1] = (byte) text.charAt(idx);
+        }
+        return key;
+    }
+
+    /**
+     * URN of a key.
+     * @param key The key
+     * @return The URN
+     * @throws IllegalArgumentException If it's not a key of a valid URN
+     */
+    static URN urn(final byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key can't be NULL");
+        }
+        if (key.length == 0 || key[0] < 0 || key[0] >= Sortable.WAYS) {
+            throw new IllegalArgumentException(
+                "key must start with a byte from 0 to 7"
+            );
+        }
+        return URN.create(
+            Sortable.prefix(key[0]).concat(
+                new String(key, 1, key.length - 1, StandardCharsets.ISO_8859_1)
+            )
+        );
+    }
+
+    /**
+     * Keys of URNs that start with the text, or are equal to it.
+     * @param text The text
+     * @param whole TRUE if the URN must be equal to the text
+     * @return Lowest key and the key after the highest one, the same if
+     *  no URN can match
+     */
+    static byte[][] range(final String text, final boolean whole) {
+        final int first = Sortable.first(text);
+        final int last = Sortable.last(text, first);
+        byte[][] range = {new byte[0], new byte[0]};
+        if (first <= last && text.length() <= Sortable.LENGTH && !whole) {
+            range = new byte[][] {{(byte) first}, {(byte) (last + 1)}};
+        } else if (first == last && text.length() >= Sortable.LENGTH
+            && Sortable.ascii(text)) {
+            final byte[] low = Sortable.key(text);
+            final byte[] high;
+            if (whole) {
+                high = new byte[low.length + 1];
+                System.arraycopy(low, 0, high, 0, low.length);
+            } else {
+                high = low.clone();
+                ++high[high.length - 1];
+            }
+            range = new byte[][] {low, high};
+        }
+        return range;
+    }
+
+    /**
+     * Compare keys as unsigned bytes.
+     * @param left Left key
+     * @param right Right key
+     * @return Negative, zero or positive
+     */
+    static int compare(final byte[] left, final byte[] right) {
+        final int common = Math.min(left.length, right.length);
+        int diff = 0;
+        for (int idx = 0; diff == 0 && idx < common; ++idx) {
+            diff = (left[idx] & 0xFF) - (right[idx] & 0xFF);
+        }
+        if (diff == 0) {
+            diff = left.length - right.length;
+        }
+        return diff;
+    }
+
+    /**
+     * First byte of the key of a valid URN.
+     * @param text The text of the URN
+     * @return The code of its prefix
+     */
+    static int code(final CharSequence text) {
+        int code = 0;
+        for (int idx = 0; idx < Sortable.LETTERS.length(); ++idx) {
+            code <<= 1;
+            if (text.charAt(idx) == Sortable.LETTERS.charAt(idx)) {
+                code |= 1;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Prefix of the code.
+     * @param code The code
+     * @return The prefix, with the colon
+     */
+    private static String prefix(final int code) {
+        final char[] chars = new char[Sortable.LENGTH];
+        for (int idx = 0; idx < Sortable.LETTERS.length(); ++idx) {
+            chars[idx] = Sortable.LETTERS.charAt(idx);
+            if ((code >> Sortable.LETTERS.length() - 1 - idx & 1) == 0) {
+                chars[idx] = Character.toUpperCase(chars[idx]);
+            }
+        }
+        chars[Sortable.LENGTH - 1] = ':';
+        return new String(chars);
+    }
+
+    /**
+     * The lowest code of a prefix that starts like the text.
+     * @param text The text
+     * @return The code, or 8 if there is none
+     */
+    private static int first(final String text) {
+        int code = 0;
+        while (code < Sortable.WAYS && !Sortable.fits(code, text)) {
+            ++code;
+        }
+        return code;
+    }
+
+    /**
+     * The highest code of a prefix that starts like the text.
+     * @param text The text
+     * @param first The lowest one
+     * @return The code, less than the lowest one if there is none
+     */
+    private static int last(final String text, final int first) {
+        int code = first - 1;
+        while (code + 1 < Sortable.WAYS && Sortable.fits(code + 1, text)) {
+            ++code;
+        }
+        return code;
+    }
+
+    /**
+     * The prefix of the code starts like the text, or the text starts
+     * with the prefix?
+     * @param code The code
+     * @param text The text
+     * @return TRUE if so
+     */
+    private static boolean fits(final int code, final String text) {
+        final int common = Math.min(text.length(), Sortable.LENGTH);
+        return Sortable.prefix(code).regionMatches(0, text, 0, common);
+    }
+
+    /**
+     * All characters of the text are ASCII?
+     * @param text The text
+     * @return TRUE if they are
+     */
+    private static boolean ascii(final CharSequence text) {
+        boolean ascii = true;
+        for (int idx = 0; ascii && idx < text.length(); ++idx) {
+            ascii = text.charAt(idx) < 0x80;
+        }
+        return ascii;
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Arrays;
+
+/**
+ * Radix sort of URNs, by eight characters at a time.
+ *
+ * <p>URNs are sorted by their abbreviated keys, see
+ * {@link #head(CharSequence)}, with a stable radix sort of
+ * eight passes, one per byte, where bytes that are the same in all keys
+ * are skipped. Then every run of URNs with equal keys is sorted the same
+ * way by the next eight characters, and so on, until the run is shorter
+ * than {@link #SMALL}, which is sorted by {@link URN#compareTo(URN)}, or
+ * the texts end. Long prefixes shared by all URNs cost one pass over the
+ * characters, not a comparison of them in every pair.
+ *
+ * @since 1.0
+ */
+final class Sorter {
+
+    /**
+     * Runs shorter than this are sorted by comparison.
+     */
+    private static final int SMALL = 64;
+
+    /**
+     * Number of values of a byte.
+     */
+    private static final int BUCKETS = 256;
+
+    /**
+     * Position of the first character after the abbreviated key.
+     */
+    private static final int AFTER = 11;
+
+    /**
+     * The URNs.
+     */
+    private final URN[] urns;
+
+    /**
+     * Keys of the URNs, at the current level of every run.
+     */
+    private final long[] keys;
+
+    /**
+     * Space for URNs during a pass.
+     */
+    private final URN[] spare;
+
+    /**
+     * Space for keys during a pass.
+     */
+    private final long[] others;
+
+    /**
+     * Counts of bytes in a pass.
+     */
+    private final int[] counts;
+
+    /**
+     * Ctor.
+     * @param array The URNs to sort, in place
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Sorter(final URN... array) {
+        this.urns = array;
+        this.keys = new long[array.length];
+        this.spare = new URN[array.length];
+        this.others = new long[array.length];
+        this.counts = new int[Sorter.BUCKETS + 1];
+    }
+
+    /**
+     * Sort them.
+     */
+    void sort() {
+        this.sort(0, this.urns.length, 0);
+    }
+
+    /**
+     * First eight bytes of the key of a valid URN, in a positive long,
+     * missing bytes are zeros.
+     *
+     * <p>If these numbers of two URNs are not equal, they are in the same
+     * order as the URNs. Since the highest byte is the code of the prefix,
+     * the number is never negative.
+     *
+     * @param text The text of the URN
+     * @return The number
+     */
+    static long head(final CharSequence text) {
+        long head = Sortable.code(text);
+        for (int idx = 1; idx < Long.BYTES; ++idx) {
+            head <<= Byte.SIZE;
+            if (Sorter.AFTER - Long.BYTES + idx < text.length()) {
+                head |= text.charAt(Sorter.AFTER - Long.BYTES + idx) & 0xFF;
+            }
+        }
+        return head;
+    }
+
+    /**
+     * Sort a run of URNs, which are equal up to the level.
+     * @param from Position of the first URN
+     * @param end Position after the last URN
+     * @param level Number of eight characters to skip, where 0 is the
+     *  abbreviated key
+     */
+    private void sort(final int from, final int end, final int level) {
+        if (end - from < Sorter.SMALL) {
+            Arrays.sort(this.urns, from, end);
+        } else {
+            for (int idx = from; idx < end; ++idx) {
+                this.keys[idx] = Sorter.chunk(this.urns[idx], level);
+            }
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                this.pass(from, end, shift);
+            }
+            this.ties(from, end, level);
+        }
+    }
+
+    /**
+     * Sort a run by one byte of the keys, unless it's the same in all.
+     * @param from Position of the first URN
+     * @param end Position after the last URN
+     * @param shift Position of the byte in the key, in bits
+     */
+    private void pass(final int from, final int end, final int shift) {
+        Arrays.fill(this.counts, 0);
+        for (int idx = from; idx < end; ++idx) {
+            ++this.counts[(int) (this.keys[idx] >>> shift) & 0xFF];
+        }
+        boolean same = false;
+        int total = from;
+        for (int bucket = 0; bucket < Sorter.BUCKETS; ++bucket) {
+            same |= this.counts[bucket] == end - from;
+            final int count = this.counts[bucket];
+            this.counts[bucket] = total;
+            total += count;
+        }
+        if (!same) {
+            for (int idx = from; idx < end; ++idx) {
+                final int bucket = (int) (this.keys[idx] >>> shift) & 0xFF;
+                final int pos = this.counts[bucket];
+                this.counts[bucket] = pos + 1;
+                this.spare[pos] = this.urns[idx];
+                this.others[pos] = this.keys[idx];
+            }
+            System.arraycopy(this.spare, from, this.urns, from, end - from);
+            System.arraycopy(this.others, from, this.keys, from, end - from);
+        }
+    }
+
+    /**
+     * Sort runs of URNs with equal keys by the next characters.
+     * @param from Position of the first URN
+     * @param end Position after the last URN
+     * @param level The level of the keys
+     */
+    private void ties(final int from, final int end, final int level) {
+        int start = from;
+        while (start < end) {
+            int next = start + 1;
+            while (next < end && this.keys[next] == this.keys[start]) {
+                ++next;
+            }
+            if (next - start > 1 && (this.keys[start] & 0xFF) != 0) {
+                this.sort(start, next, level + 1);
+            }
+            start = next;
+        }
+    }
+
+    /**
+     * Eight characters of the URN, in a long, where missing characters
+     * are zeros.
+     * @param urn The URN
+     * @param level Number of eight characters to skip, where 0 is the
+     *  abbreviated key
+     * @return The characters
+     */
+    private static long chunk(final URN urn, final int level) {
+        long chunk = urn.abbreviated();
+        if (level > 0) {
+            final String text = urn.toString();
+            final int first = Sorter.AFTER + (level - 1) * Long.BYTES;
+            final int last = Math.min(first + Long.BYTES, text.length());
+            chunk = 0L;
+            for (int idx = first; idx < last; ++idx) {
+                chunk |= (long) (text.charAt(idx) & 0xFF) << (first + 7 - idx << 3);
+            }
+        }
+        return chunk;
+    }
+
+}
@@ -30,15 +30,18 @@
 package com.jcabi.urn;
 
 import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URLDecoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * Uniform Resource Name (URN) as in
@@ -50,6 +53,13 @@ import org.apache.commons.lang3.StringUtils;
  * assert urn.nid().equals("foo");
  * assert urn.nss().equals("A123,456");</pre>
  *
+ * <p>Validation takes linear time, whatever the text is, and rejects
+ * texts longer than 16384 characters, NSS longer than 8192 characters
+ * and queries with more than 256 params. These limits can be changed
+ * with system properties {@code com.jcabi.urn.max.length},
+ * {@code com.jcabi.urn.max.nss} and {@code com.jcabi.urn.max.params}.
+ * {@link #trusted(String)} doesn't check them.
+ *
  * <p><b>NOTICE:</b> the implementation is not fully compliant with RFC 2141.
  * It will become compliant in one of our future versions. Once it becomes
  * fully compliant this notice will be removed.
@@ -71,11 +81,6 @@ public final class URN implements Comparable<URN>, Serializable {
      */
     private static final long serialVersionUID = 0xBF46AFCD9612A6DFL;
 
-    /**
-     * Encoding to use.
-     */
-    private static final String ENCODING = "UTF-8";
-
     /**
      * NID of an empty URN.
      */
@@ -87,16 +92,26 @@ public final class URN implements Comparable<URN>, Serializable {
     private static final String PREFIX = "urn";
 
     /**
-     * The separator.
+     * Validate texts given to {@link #trusted(String)}.
+     */
+    private static final boolean VERIFY =
+        Boolean.getBoolean("com.jcabi.urn.verify");
+
+    /**
+     * Intern URNs restored by Java deserialization.
      */
-    private static final String SEP = ":";
+    private static final boolean CANONICAL =
+        Boolean.getBoolean("com.jcabi.urn.intern");
 
     /**
-     * Validating regular expr.
+     * Pool of canonical URNs.
      */
-    private static final String REGEX =
-        // @checkstyle LineLength (1 line)
-        "^(?i)^urn(?-i):[a-z]{1,31}(:([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)+(\\?\\w+(=([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)?(&\\w+(=([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)?)*)?\\*?$";
+    private static final URNPool INTERNED = new URNPool();
+
+    /**
+     * The separator.
+     */
+    private static final char SEP = ':';
 
     /**
      * The URI.
@@ -104,6 +119,36 @@ public final class URN implements Comparable<URN>, Serializable {
     @SuppressWarnings("PMD.BeanMembersShouldSerialize")
     private final String uri;
 
+    /**
+     * NID, shared by all URNs in the namespace, or NULL if the NID is not
+     * registered, see {@link #register(String)}.
+     */
+    private final transient Namespace namespace;
+
+    /**
+     * Position of the colon after NID.
+     */
+    private final transient int colon;
+
+    /**
+     * Position of the question mark, or length of the URI if there is
+     * no query.
+     */
+    private final transient int query;
+
+    /**
+     * First characters, abbreviated key for {@link #compareTo(URN)}, see
+     * {@link Sorter#head(CharSequence)}.
+     */
+    private final transient long head;
+
+    /**
+     * Decoded NSS, params, fingerprint, URI and unregistered NID, made on
+     * first demand,
+     * published without locks, see {@link Derived}.
+     */
+    private transient Derived cache;
+
     /**
      * Public ctor (for JAXB mostly) that creates an "empty" URN.
      */
@@ -121,11 +166,24 @@ public final class URN implements Comparable<URN>, Serializable {
         if (text == null) {
             throw new IllegalArgumentException("text can't be NULL");
         }
-        if (!text.matches(URN.REGEX)) {
-            throw new URISyntaxException(text, "Invalid format of URN");
+        final long parts = Grammar.scan(text, 0, text.length());
+        if (parts < 0L) {
+            if (Grammar.defect(parts) == Verdict.Defect.RESERVED) {
+                throw new IllegalArgumentException(
+                    Grammar.defect(parts).reason()
+                );
+            }
+            throw new URISyntaxException(
+                text, Grammar.defect(parts).reason(), Grammar.failure(parts)
+            );
         }
         this.uri = text;
-        this.validate();
+        this.colon = Grammar.colon(parts);
+        this.query = Grammar.query(parts);
+        this.namespace = Namespace.lookup(
+            text, URN.PREFIX.length() + 1, this.colon
+        );
+        this.head = Sorter.head(text);
     }
 
     /**
@@ -141,18 +199,53 @@ public final class URN implements Comparable<URN>, Serializable {
         if (nss == null) {
             throw new IllegalArgumentException("NSS can't be NULL");
         }
-        this.uri = String.format(
-            "%s%s%s%2$s%s",
-            URN.PREFIX,
-            URN.SEP,
-            nid,
-            URN.encode(nss)
-        );
-        try {
-            this.validate();
-        } catch (final URISyntaxException ex) {
-            throw new IllegalArgumentException(ex);
+        final String encoded = Percent.encode(nss);
+        this.uri = new StringBuilder(
+            URN.PREFIX.length() + nid.length() + encoded.length() + 2
+        ).append(URN.PREFIX).append(URN.SEP).append(nid)
+            .append(URN.SEP).append(encoded).toString();
+        final long parts = Grammar.scan(this.uri, 0, this.uri.length());
+        if (parts < 0L) {
+            throw new IllegalArgumentException(
+                Grammar.invalid(this.uri, parts)
+            );
         }
+        this.colon = Grammar.colon(parts);
+        this.query = Grammar.query(parts);
+        this.namespace = Namespace.register(
+            this.uri, URN.PREFIX.length() + 1, this.colon
+        );
+        this.head = Sorter.head(this.uri);
+    }
+
+    /**
+     * Ctor for URNs that are already known to be valid.
+     * @param text The text of the URN
+     * @param clon Position of the colon after NID
+     * @param qry Position of the question mark or length of the text
+     */
+    URN(final String text, final int clon, final int qry) {
+        this(
+            text, Namespace.lookup(text, URN.PREFIX.length() + 1, clon), clon, qry
+        );
+    }
+
+    /**
+     * Private ctor for parts of URNs that are already known to be valid,
+     * with the NID already found.
+     * @param text The text of the URN
+     * @param nid The NID
+     * @param clon Position of the colon after NID
+     * @param qry Position of the question mark or length of the text
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private URN(final String text, final Namespace nid, final int clon,
+        final int qry) {
+        this.uri = text;
+        this.namespace = nid;
+        this.colon = clon;
+        this.query = qry;
+        this.head = Sorter.head(text);
     }
 
     /**
@@ -173,6 +266,95 @@ public final class URN implements Comparable<URN>, Serializable {
         }
     }
 
+    /**
+     * Creates an instance of URN, like {@link #create(String)} does, but
+     * takes it from {@link URNCache#global()} if the same text was
+     * seen often enough recently, which saves parsing and allocation.
+     * @param text The text of the URN
+     * @return The URN
+     * @throws IllegalArgumentException If the text is not a valid URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URN cached(final String text) {
+        return URNCache.global().get(text);
+    }
+
+    /**
+     * Parses a URN from a range of ASCII bytes, validating them in place,
+     * and throws a runtime exception if its syntax is not valid.
+     * @param bytes The bytes
+     * @param offset Position of the first byte of the URN
+     * @param length Number of bytes in the URN
+     * @return The URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URN parse(final byte[] bytes, final int offset,
+        final int length) {
+        return Ascii.slice(bytes, offset, length).urn();
+    }
+
+    /**
+     * Parses a URN from the remaining ASCII bytes of the buffer, heap or
+     * direct, validating them in place, and throws a runtime exception if
+     * its syntax is not valid. The position of the buffer is not changed.
+     * @param buffer The buffer
+     * @return The URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URN parse(final ByteBuffer buffer) {
+        return Ascii.remaining(buffer).urn();
+    }
+
+    /**
+     * Creates an instance of URN from a text that is known to be valid,
+     * for example because it was validated before it was stored, without
+     * validating it again.
+     *
+     * <p>The result for an invalid text is undefined. To catch such texts
+     * during debugging, set system property {@code com.jcabi.urn.verify}
+     * to {@code true}: then this method validates the text exactly as
+     * {@link #create(String)} does.
+     *
+     * @param text The text of the URN
+     * @return The URN created
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URN trusted(final String text) {
+        return Composer.trusted(text, URN.VERIFY);
+    }
+
+    /**
+     * Register the NID, so that it gets an ordinal, see
+     * {@link #nidOrdinal()}, and all URNs in its namespace share the
+     * string returned by {@link #nid()}.
+     *
+     * <p>Register all NIDs of the application when it starts, in the same
+     * order, to get the same ordinals in every run. NIDs are registered
+     * only once, a second registration returns the same ordinal.
+     *
+     * @param nid The NID, 1 to 31 lower case letters
+     * @return Its ordinal, or -1 if the table of NIDs is full
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static int register(final String nid) {
+        if (nid == null || !Grammar.identifier(nid)) {
+            throw new IllegalArgumentException(
+                String.format("Invalid NID '%s'", nid)
+            );
+        }
+        return Namespace.ordinal(Namespace.register(nid, 0, nid.length()));
+    }
+
+    /**
+     * Pool of canonical URNs, made by {@link #intern()}, with its
+     * statistics.
+     * @return The pool
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URNPool pool() {
+        return URN.INTERNED;
+    }
+
     @Override
     public String toString() {
         return this.uri;
@@ -180,7 +362,11 @@ public final class URN implements Comparable<URN>, Serializable {
 
     @Override
     public int compareTo(final URN urn) {
-        return this.uri.compareTo(urn.uri);
+        int diff = Long.compare(this.head, urn.head);
+        if (diff == 0) {
+            diff = this.uri.compareTo(urn.uri);
+        }
+        return diff;
     }
 
     /**
@@ -190,17 +376,93 @@ public final class URN implements Comparable<URN>, Serializable {
      */
     @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
     public static boolean isValid(final String text) {
-        boolean valid = true;
-        try {
-            new URN(text);
-        } catch (final URISyntaxException ex) {
-            valid = false;
+        if (text == null) {
+            throw new IllegalArgumentException("text can't be NULL");
+        }
+        return Grammar.scan(text, 0, text.length()) >= 0L;
+    }
+
+    /**
+     * Is it a valid URN, in a range of ASCII bytes?
+     * @param bytes The bytes
+     * @param offset Position of the first byte of the URN
+     * @param length Number of bytes in the URN
+     * @return Yes of no
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static boolean isValid(final byte[] bytes, final int offset,
+        final int length) {
+        return Grammar.scan(Ascii.slice(bytes, offset, length), 0, length)
+            >= 0L;
+    }
+
+    /**
+     * Is it a valid URN, in the remaining ASCII bytes of the buffer?
+     * The position of the buffer is not changed.
+     * @param buffer The buffer
+     * @return Yes of no
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static boolean isValid(final ByteBuffer buffer) {
+        final Ascii text = Ascii.remaining(buffer);
+        return Grammar.scan(text, 0, text.length()) >= 0L;
+    }
+
+    /**
+     * Creates an instance of URN, if the text is valid, without
+     * throwing any exceptions if it's not.
+     * @param text The text of the URN
+     * @return The URN or empty, if the text is not valid
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Optional<URN> tryParse(final CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("text can't be NULL");
+        }
+        final long parts = Grammar.scan(text, 0, text.length());
+        final Optional<URN> urn;
+        if (parts < 0L) {
+            urn = Optional.empty();
+        } else {
+            urn = Optional.of(
+                new URN(
+                    text.toString(), Grammar.colon(parts), Grammar.query(parts)
+                )
+            );
+        }
+        return urn;
+    }
+
+    /**
+     * Validate a range of the text, without throwing any exceptions.
+     * @param text The text
+     * @param from Position of the first character of the URN
+     * @param end Position after the last character of the URN
+     * @return The verdict, with the position relative to the whole text
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Verdict validate(final CharSequence text, final int from,
+        final int end) {
+        if (text == null) {
+            throw new IllegalArgumentException("text can't be NULL");
+        }
+        if (from < 0 || end > text.length() || from > end) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Range [%d, %d) is out of text of length %d",
+                    from, end, text.length()
+                )
+            );
         }
-        return valid;
+        return Grammar.verdict(Grammar.scan(text, from, end));
     }
 
     /**
      * Does it match the pattern?
+     *
+     * <p>To match many URNs against the same pattern, or to match by
+     * segments, compile it with {@link URNPattern#compile(String)}.
+     *
      * @param pattern The pattern to match
      * @return Yes of no
      */
@@ -212,18 +474,49 @@ public final class URN implements Comparable<URN>, Serializable {
         if (this.toString().equals(pattern)) {
             matches = true;
         } else if (pattern.endsWith("*")) {
-            final String body = pattern.substring(0, pattern.length() - 1);
-            matches = this.uri.startsWith(body);
+            matches = this.uri.regionMatches(
+                0, pattern, 0, pattern.length() - 1
+            );
         }
         return matches;
     }
 
+    /**
+     * Key of the URN, whose bytes are in the same order as URNs in
+     * {@link #compareTo(URN)}, see {@link URNKeyRange}.
+     * @return The key
+     */
+    public byte[] toSortableBytes() {
+        return Sortable.key(this.uri);
+    }
+
+    /**
+     * Make a URN of its key, made by {@link #toSortableBytes()}.
+     * @param bytes The key
+     * @return The URN
+     * @throws IllegalArgumentException If it is not a key of a valid URN
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URN fromSortableBytes(final byte[] bytes) {
+        return Sortable.urn(bytes);
+    }
+
+    /**
+     * Stable 64-bit fingerprint of the text, much less likely to collide
+     * than {@link #hashCode()}, see {@link URNs#fingerprint64(CharSequence)}.
+     * @return The fingerprint
+     * @checkstyle MethodNameCheck (2 lines)
+     */
+    public long fingerprint64() {
+        return this.derived().fingerprint(this.uri);
+    }
+
     /**
      * Is it empty?
      * @return Yes of no
      */
     public boolean isEmpty() {
-        return URN.EMPTY.equals(this.nid());
+        return this.namespace != null && this.namespace.empty();
     }
 
     /**
@@ -231,58 +524,121 @@ public final class URN implements Comparable<URN>, Serializable {
      * @return The URI
      */
     public URI toURI() {
-        return URI.create(this.uri);
+        return this.derived().uri(this.uri);
     }
 
     /**
-     * Get namespace ID.
+     * Get namespace ID, the same instance for all URNs in the namespace,
+     * if the NID is registered, or the same instance for this URN only,
+     * made on the first call, if it is not.
      * @return Namespace ID
      */
     public String nid() {
-        return this.segment(1);
+        final String nid;
+        if (this.namespace == null) {
+            nid = this.derived().nid(this.uri, this.colon);
+        } else {
+            nid = this.namespace.toString();
+        }
+        return nid;
+    }
+
+    /**
+     * Get the ordinal of namespace ID.
+     *
+     * <p>NIDs get small ordinals, starting from zero, when they are
+     * registered: explicitly, by {@link #register(String)}, or when URNs
+     * are made of them for the first time in this JVM, by
+     * {@link #URN(String, String)} or {@link URN.Builder} with a NID given
+     * by code. The ordinals may be used as indexes in arrays or in
+     * {@code switch}, instead of string keys. NIDs that are only parsed
+     * from texts don't get ordinals, even when URNs are made of parsed
+     * ones, by {@link #param(String, Object)} or
+     * {@link URN.Builder#Builder(URN)}, so untrusted input can't take them.
+     * The ordinal of "void" is always zero. Only the first 1024 distinct
+     * NIDs get ordinals, the limit can be changed with system property
+     * {@code com.jcabi.urn.max.nids}.
+     *
+     * @return The ordinal, or -1 if the NID has none
+     */
+    public int nidOrdinal() {
+        return Namespace.ordinal(this.namespace);
     }
 
     /**
      * Get namespace specific string.
      * @return Namespace specific string
+     * @throws IllegalArgumentException If escapes are not UTF-8
      */
     public String nss() {
-        try {
-            return URLDecoder.decode(this.segment(2), URN.ENCODING);
-        } catch (final UnsupportedEncodingException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return this.derived().nss(this.uri, this.colon);
     }
 
     /**
      * Get all params.
-     * @return The params
+     * @return The params, unmodifiable and sorted by name
+     * @throws IllegalArgumentException If escapes of a value are not UTF-8
      */
     public Map<String, String> params() {
-        return URN.demap(this.toString());
+        return this.derived().params(this.uri, this.query);
     }
 
     /**
      * Get query param by name.
      * @param name Name of parameter
      * @return The value of it
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
      */
     public String param(final String name) {
-        if (name == null) {
-            throw new IllegalArgumentException("param name can't be NULL");
-        }
-        final Map<String, String> params = this.params();
-        if (!params.containsKey(name)) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "Param '%s' not found in '%s', among %s",
-                    name,
-                    this,
-                    params.keySet()
-                )
+        final long found = Query.found(this.uri, this.query, name);
+        return Percent.decode(this.uri, Query.start(found), Query.end(found));
+    }
+
+    /**
+     * Get query param by name, as a number.
+     * @param name Name of parameter
+     * @return The value of it
+     * @throws NumberFormatException If the value is not a number
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
+     */
+    public long paramAsLong(final String name) {
+        return Query.number(
+            this.uri, Query.found(this.uri, this.query, name)
+        );
+    }
+
+    /**
+     * Get query param by name, as a number that fits into {@code int}.
+     * @param name Name of parameter
+     * @return The value of it
+     * @throws NumberFormatException If the value is not such a number
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
+     */
+    public int paramAsInt(final String name) {
+        final long number = this.paramAsLong(name);
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new NumberFormatException(
+                String.format("Value of '%s' is out of int range", name)
             );
         }
-        return params.get(name);
+        return (int) number;
+    }
+
+    /**
+     * Get query param by name, as a boolean, the same way
+     * {@link Boolean#parseBoolean(String)} does.
+     * @param name Name of parameter
+     * @return TRUE if the value is "true", ignoring case
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
+     */
+    public boolean paramAsBoolean(final String name) {
+        return Query.truth(
+            this.uri, Query.found(this.uri, this.query, name)
+        );
     }
 
     /**
@@ -290,23 +646,10 @@ public final class URN implements Comparable<URN>, Serializable {
      * @param name Name of parameter
      * @param value The value of parameter
      * @return New URN
+     * @throws IllegalArgumentException If escapes of a value are not UTF-8
      */
     public URN param(final String name, final Object value) {
-        if (name == null) {
-            throw new IllegalArgumentException("param can't be NULL");
-        }
-        if (value == null) {
-            throw new IllegalArgumentException("param value can't be NULL");
-        }
-        final Map<String, String> params = this.params();
-        params.put(name, value.toString());
-        return URN.create(
-            String.format(
-                "%s%s",
-                StringUtils.split(this.toString(), '?')[0],
-                URN.enmap(params)
-            )
-        );
+        return new Composer(this).withParam(name, value).urn();
     }
 
     /**
@@ -314,12 +657,103 @@ public final class URN implements Comparable<URN>, Serializable {
      * @return Clean version of it
      */
     public URN pure() {
-        String urn = this.toString();
+        URN urn = this;
         if (this.hasParams()) {
-            // @checkstyle MultipleStringLiterals (1 line)
-            urn = urn.substring(0, urn.indexOf('?'));
+            urn = new URN(
+                this.uri.substring(0, this.query), this.namespace,
+                this.colon, this.query
+            );
         }
-        return URN.create(urn);
+        return urn;
+    }
+
+    /**
+     * Append the text of it to the output, as {@link #toString()} is.
+     * @param out The output
+     * @throws IOException If the output fails
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("output can't be NULL");
+        }
+        out.append(this.uri);
+    }
+
+    /**
+     * Append decoded namespace specific string to the output, decoding
+     * while writing, without making a string, unless {@link #nss()} has
+     * already made it.
+     * @param out The output
+     * @throws IOException If the output fails
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     */
+    public void nssTo(final Appendable out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("output can't be NULL");
+        }
+        final Derived values = this.cache;
+        if (values == null) {
+            Percent.decode(this.uri, this.colon + 1, this.uri.length(), out);
+        } else {
+            values.nss(this.uri, this.colon, out);
+        }
+    }
+
+    /**
+     * Append decoded value of a query param to the output, decoding
+     * while writing, see {@link #param(String)}.
+     * @param name Name of parameter
+     * @param out The output
+     * @throws IOException If the output fails
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
+     */
+    public void paramTo(final String name, final Appendable out)
+        throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("output can't be NULL");
+        }
+        final long found = Query.found(this.uri, this.query, name);
+        Percent.decode(this.uri, Query.start(found), Query.end(found), out);
+    }
+
+    /**
+     * Write it as ASCII bytes to the buffer, heap or direct, starting from
+     * its position, and move the position after the last byte written.
+     * @param buffer The buffer
+     * @throws BufferOverflowException If there is not enough room
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer can't be NULL");
+        }
+        Ascii.write(this.uri, buffer);
+    }
+
+    /**
+     * Convert it to the compact form, which takes less memory.
+     * @return The compact URN
+     */
+    public CompactURN compact() {
+        return new CompactURN(
+            this.uri.getBytes(StandardCharsets.ISO_8859_1),
+            this.namespace, this.colon, this.query
+        );
+    }
+
+    /**
+     * Get the canonical URN, equal to this one, exactly like
+     * {@link String#intern()} does for strings.
+     *
+     * <p>The canonical URNs are referenced weakly, by {@link #pool()}, and
+     * disappear when they are not used anywhere else. To intern all URNs
+     * restored by Java deserialization, set system property
+     * {@code com.jcabi.urn.intern} to {@code true}.
+     *
+     * @return The canonical URN
+     */
+    public URN intern() {
+        return URN.INTERNED.intern(this);
     }
 
     /**
@@ -327,137 +761,173 @@ public final class URN implements Comparable<URN>, Serializable {
      * @return Has them?
      */
     public boolean hasParams() {
-        // @checkstyle MultipleStringLiterals (1 line)
-        return this.toString().contains("?");
+        return this.query < this.uri.length();
     }
 
     /**
-     * Get segment by position.
-     * @param pos Its position
-     * @return The segment
+     * Abbreviated key, in the same order as URNs, unless equal.
+     * @return The key
      */
-    private String segment(final int pos) {
-        return StringUtils.splitPreserveAllTokens(
-            this.uri,
-            URN.SEP,
-            // @checkstyle MagicNumber (1 line)
-            3
-        )[pos];
+    long abbreviated() {
+        return this.head;
     }
 
     /**
-     * Validate URN.
-     * @throws URISyntaxException If it's not valid
+     * Position of the colon after NID.
+     * @return The position
      */
-    private void validate() throws URISyntaxException {
-        if (this.isEmpty() && !this.nss().isEmpty()) {
-            throw new URISyntaxException(
-                this.toString(),
-                "Empty URN can't have NSS"
-            );
-        }
-        final String nid = this.nid();
-        if (!nid.matches("^[a-z]{1,31}$")) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "NID '%s' can contain up to 31 low case letters",
-                    this.nid()
-                )
-            );
-        }
-        if (StringUtils.equalsIgnoreCase(URN.PREFIX, nid)) {
-            throw new IllegalArgumentException(
-                "NID can't be 'urn' according to RFC 2141, section 2.1"
-            );
-        }
+    int nidEnd() {
+        return this.colon;
     }
 
     /**
-     * Decode query part of the URN into Map.
-     * @param urn The URN to demap
-     * @return The map of values
-     */
-    private static Map<String, String> demap(final String urn) {
-        final Map<String, String> map = new TreeMap<>();
-        final String[] sectors = StringUtils.split(urn, '?');
-        if (sectors.length == 2) {
-            final String[] parts = StringUtils.split(sectors[1], '&');
-            for (final String part : parts) {
-                final String[] pair = StringUtils.split(part, '=');
-                final String value;
-                if (pair.length == 2) {
-                    try {
-                        value = URLDecoder.decode(pair[1], URN.ENCODING);
-                    } catch (final UnsupportedEncodingException ex) {
-                        throw new IllegalStateException(ex);
-                    }
-                } else {
-                    value = "";
-                }
-                map.put(pair[0], value);
-            }
-        }
-        return map;
+     * Position of the question mark, or length of the text.
+     * @return The position
+     */
+    int queryStart() {
+        return this.query;
     }
 
     /**
-     * Encode map of params into query part of URN.
-     * @param params Map of params to convert to query suffix
-     * @return The suffix of URN, starting with "?"
+     * Values derived from the text, made on first demand.
+     * @return The values
      */
-    private static String enmap(final Map<String, String> params) {
-        final StringBuilder query = new StringBuilder(100);
-        if (!params.isEmpty()) {
-            query.append('?');
-            boolean first = true;
-            for (final Map.Entry<String, String> param : params.entrySet()) {
-                if (!first) {
-                    query.append('&');
-                }
-                query.append(param.getKey());
-                if (!param.getValue().isEmpty()) {
-                    query.append('=').append(URN.encode(param.getValue()));
-                }
-                first = false;
-            }
+    private Derived derived() {
+        Derived values = this.cache;
+        if (values == null) {
+            values = new Derived();
+            this.cache = values;
         }
-        return query.toString();
+        return values;
     }
 
     /**
-     * Perform proper URL encoding with the text.
-     * @param text The text to encode
-     * @return The encoded text
+     * Restore positions of the parts after deserialization, and intern
+     * the URN, if system property {@code com.jcabi.urn.intern} is set.
+     *
+     * <p>The syntax is checked, but {@link Limits} are not, since URNs
+     * serialized before the limits were set may exceed them.
+     *
+     * @return The URN with positions of its parts
+     * @throws ObjectStreamException If the URN is not valid
      */
-    private static String encode(final String text) {
-        final byte[] bytes;
-        try {
-            bytes = text.getBytes(URN.ENCODING);
-        } catch (final UnsupportedEncodingException ex) {
-            throw new IllegalStateException(ex);
-        }
-        final StringBuilder encoded = new StringBuilder(100);
-        for (final byte chr : bytes) {
-            if (URN.allowed(chr)) {
-                encoded.append((char) chr);
-            } else {
-                encoded.append('%').append(String.format("%X", chr));
-            }
+    private Object readResolve() throws ObjectStreamException {
+        final long parts = Grammar.parsed(this.uri, 0, this.uri.length());
+        if (parts < 0L) {
+            throw new InvalidObjectException(Grammar.invalid(this.uri, parts));
         }
-        return encoded.toString();
+        URN urn = new URN(this.uri, Grammar.colon(parts), Grammar.query(parts));
+        if (URN.CANONICAL) {
+            urn = urn.intern();
+        }
+        return urn;
     }
 
     /**
-     * This char is allowed in URN's NSS part?
-     * @param chr The character
-     * @return It is allowed?
+     * Builder of URNs, from NID, NSS and any number of params.
+     *
+     * <p>The builder collects all parts, keeping params sorted by name,
+     * and encodes them only once, in {@link #build()}. Since NSS and
+     * param values are percent-encoded by the builder, they are always
+     * valid and only NID and param names are checked:
+     *
+     * <pre> URN urn = new URN.Builder("order")
+     *   .withNss("2024", "A-17")
+     *   .withParam("v", 3)
+     *   .withParam("page", 1)
+     *   .build();
+     * assert urn.toString().equals("urn:order:2024:A-17?page=1&amp;v=3");</pre>
+     *
+     * <p>The class is mutable and not thread-safe.
+     *
+     * @since 1.0
      */
-    private static boolean allowed(final byte chr) {
-        // @checkstyle BooleanExpressionComplexity (4 lines)
-        return chr >= 'A' && chr <= 'Z'
-            || chr >= '0' && chr <= '9'
-            || chr >= 'a' && chr <= 'z'
-            || chr == '/' || chr == '-';
+    public static final class Builder {
+
+        /**
+         * The parts of the URN.
+         */
+        private final Composer parts;
+
+        /**
+         * Ctor.
+         * @param name The namespace ID
+         */
+        public Builder(final String name) {
+            this.parts = new Composer(name);
+        }
+
+        /**
+         * Ctor, to make a URN similar to the given one, with the same case
+         * of the prefix and the same asterisk after the params, if any.
+         * @param urn The URN to start with
+         * @throws IllegalArgumentException If escapes of a value are not UTF-8
+         */
+        public Builder(final URN urn) {
+            this.parts = new Composer(urn);
+        }
+
+        /**
+         * With this namespace ID.
+         * @param name The namespace ID
+         * @return This object
+         */
+        public URN.Builder withNid(final String name) {
+            this.parts.withNid(name);
+            return this;
+        }
+
+        /**
+         * With this namespace specific string, made of segments that will
+         * be encoded and separated by colons.
+         * @param segments Segments of NSS
+         * @return This object
+         */
+        public URN.Builder withNss(final String... segments) {
+            this.parts.withNss(segments);
+            return this;
+        }
+
+        /**
+         * With this param, replacing the param with the same name.
+         * @param name Name of parameter
+         * @param value The value of parameter
+         * @return This object
+         */
+        public URN.Builder withParam(final String name, final Object value) {
+            this.parts.withParam(name, value);
+            return this;
+        }
+
+        /**
+         * With these params, replacing params with the same names.
+         * @param map Params
+         * @return This object
+         */
+        public URN.Builder withParams(final Map<String, ?> map) {
+            for (final Map.Entry<String, ?> param : map.entrySet()) {
+                this.parts.withParam(param.getKey(), param.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Without this param.
+         * @param name Name of parameter
+         * @return This object
+         */
+        public URN.Builder withoutParam(final String name) {
+            this.parts.withoutParam(name);
+            return this;
+        }
+
+        /**
+         * Build the URN.
+         * @return The URN
+         */
+        public URN build() {
+            return this.parts.urn();
+        }
     }
 
 }
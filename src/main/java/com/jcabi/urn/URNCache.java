@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of parsed texts, used by {@link URN#cached(String)}.
+ *
+ * <p>The cache remembers URNs made of the most frequent texts, and the
+ * verdicts of the most frequent invalid ones, so they are neither parsed
+ * nor validated again. It is a set-associative table: every text may
+ * only take one of eight slots of its set, and lookups read these slots
+ * without any locks. When all eight are taken, two of them are picked,
+ * one by the hash of the new text and one by a clock hand, and the new
+ * text replaces the one of them that was seen less often, but only if
+ * the new one was seen more often than that, as in
+ * <a href="https://arxiv.org/abs/1512.00727">TinyLFU</a>. How often
+ * texts are seen is estimated by count-min sketches with 4-bit counters,
+ * which are halved from time to time, so old popularity fades. Thus,
+ * a scan through many texts that are seen once doesn't push popular
+ * texts out.
+ *
+ * <p>Sets are split into stripes, each with its own lock and its own
+ * sketch. A thread that finds the lock taken doesn't wait, it just
+ * doesn't cache its text. There are no synchronized blocks, so virtual
+ * threads are never pinned. Texts longer than 1024 characters are never
+ * cached.
+ *
+ * <p>The size of the cache, used by {@link URN#cached(String)}, is set by
+ * system property {@code com.jcabi.urn.cache.size}, 16384 by default:
+ *
+ * <pre> URN urn = URN.cached("urn:test:x");
+ * assert URNCache.global().hits() + URNCache.global().misses() &gt; 0;</pre>
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class URNCache {
+
+    /**
+     * Slots in one set, a power of two.
+     */
+    private static final int WAYS = 8;
+
+    /**
+     * Maximum number of stripes, a power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * Longest text to cache.
+     */
+    private static final int WIDEST = 1024;
+
+    /**
+     * The cache of {@link URN#cached(String)}.
+     */
+    private static final URNCache SHARED = new URNCache(
+        Integer.getInteger("com.jcabi.urn.cache.size", 16_384)
+    );
+
+    /**
+     * The slots, set after set.
+     */
+    private final AtomicReferenceArray<URNCache.Entry> slots;
+
+    /**
+     * Hashes of the texts in the slots, so that a set is looked through
+     * without visiting its entries; written under the lock of the stripe
+     * before the slot, and only a hint for readers.
+     */
+    private final int[] tags;
+
+    /**
+     * The stripes.
+     */
+    private final URNCache.Stripe[] stripes;
+
+    /**
+     * How many times a text was found.
+     */
+    private final LongAdder found;
+
+    /**
+     * How many times a text was not found.
+     */
+    private final LongAdder missed;
+
+    /**
+     * How many texts were pushed out by others.
+     */
+    private final LongAdder evicted;
+
+    /**
+     * How many slots are taken.
+     */
+    private final LongAdder taken;
+
+    /**
+     * Ctor.
+     * @param capacity How many texts to keep, at least, rounded up to a
+     *  power of two
+     */
+    public URNCache(final int capacity) {
+        this(
+            new AtomicReferenceArray<>(URNCache.sets(capacity) * URNCache.WAYS)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param table The slots, a power of two of sets
+     */
+    private URNCache(final AtomicReferenceArray<URNCache.Entry> table) {
+        this.slots = table;
+        this.tags = new int[table.length()];
+        this.stripes = URNCache.striped(
+            Math.min(table.length() / URNCache.WAYS, URNCache.STRIPES),
+            table.length()
+        );
+        this.found = new LongAdder();
+        this.missed = new LongAdder();
+        this.evicted = new LongAdder();
+        this.taken = new LongAdder();
+    }
+
+    /**
+     * The cache of {@link URN#cached(String)}.
+     * @return The cache
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URNCache global() {
+        return URNCache.SHARED;
+    }
+
+    /**
+     * Get the URN of the text, from the cache or parsed.
+     * @param text The text
+     * @return The URN
+     * @throws IllegalArgumentException If the text is not a valid URN
+     */
+    public URN get(final String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        final int code = text.hashCode();
+        final int hash = code ^ code >>> 16;
+        final int index = hash * 0x9E37_79B9 >>> 7
+            & this.slots.length() / URNCache.WAYS - 1;
+        final URNCache.Stripe stripe =
+            this.stripes[index & this.stripes.length - 1];
+        final int set = index * URNCache.WAYS;
+        stripe.record(hash);
+        URNCache.Entry entry = this.find(text, hash, set);
+        if (entry == null) {
+            this.missed.increment();
+            entry = new URNCache.Entry(text, hash);
+            if (text.length() <= URNCache.WIDEST) {
+                this.admit(entry, set, stripe);
+            }
+        } else {
+            this.found.increment();
+        }
+        return entry.urn();
+    }
+
+    /**
+     * How many texts are in the cache.
+     * @return Number of texts
+     */
+    public int size() {
+        return this.taken.intValue();
+    }
+
+    /**
+     * How many texts the cache can keep.
+     * @return Number of slots
+     */
+    public int capacity() {
+        return this.slots.length();
+    }
+
+    /**
+     * How many times a text was found in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.found.sum();
+    }
+
+    /**
+     * How many times a text was not found and was parsed.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.missed.sum();
+    }
+
+    /**
+     * How many texts were pushed out of the cache by more frequent ones.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evicted.sum();
+    }
+
+    /**
+     * Share of hits among all lookups.
+     * @return The rate, from 0 to 1, or 0 if nothing was looked up yet
+     */
+    public double hitRate() {
+        final long hits = this.hits();
+        final long total = hits + this.misses();
+        double rate = 0.0d;
+        if (total > 0L) {
+            rate = (double) hits / (double) total;
+        }
+        return rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d of %d texts, %d hits, %d misses, %d evictions",
+            this.size(), this.capacity(), this.hits(), this.misses(),
+            this.evictions()
+        );
+    }
+
+    /**
+     * Find the entry of the text in the set.
+     * @param text The text
+     * @param hash Its hash
+     * @param set Position of the first slot of the set
+     * @return The entry or NULL
+     */
+    private URNCache.Entry find(final String text, final int hash,
+        final int set) {
+        URNCache.Entry same = null;
+        for (int way = 0; same == null && way < URNCache.WAYS; ++way) {
+            if (this.tags[set + way] == hash) {
+                final URNCache.Entry entry = this.slots.get(set + way);
+                if (entry != null && entry.hash == hash
+                    && entry.text.equals(text)) {
+                    same = entry;
+                }
+            }
+        }
+        return same;
+    }
+
+    /**
+     * Cache the entry, unless another thread is changing the stripe or
+     * has already cached the same text.
+     * @param entry The entry
+     * @param set Position of the first slot of the set
+     * @param stripe The stripe of the set
+     */
+    private void admit(final URNCache.Entry entry, final int set,
+        final URNCache.Stripe stripe) {
+        if (stripe.lock.tryLock()) {
+            try {
+                if (this.find(entry.text, entry.hash, set) == null) {
+                    this.replace(entry, set, stripe);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Put the entry into a free slot of the set, or instead of the less
+     * frequent of two of its entries, if the new one is more frequent;
+     * must be called under the lock of the stripe.
+     * @param entry The entry
+     * @param set Position of the first slot of the set
+     * @param stripe The stripe of the set
+     */
+    private void replace(final URNCache.Entry entry, final int set,
+        final URNCache.Stripe stripe) {
+        int victim = -1;
+        for (int way = 0; victim < 0 && way < URNCache.WAYS; ++way) {
+            if (this.slots.get(set + way) == null) {
+                victim = set + way;
+            }
+        }
+        if (victim < 0) {
+            final int first = set + (entry.hash >>> 29);
+            final int second = set + stripe.tick();
+            victim = first;
+            int least = stripe.frequency(this.tags[first]);
+            if (second != first
+                && stripe.frequency(this.tags[second]) < least) {
+                victim = second;
+                least = stripe.frequency(this.tags[second]);
+            }
+            if (stripe.frequency(entry.hash) > least) {
+                this.evicted.increment();
+            } else {
+                victim = -1;
+            }
+        } else {
+            this.taken.increment();
+        }
+        if (victim >= 0) {
+            this.tags[victim] = entry.hash;
+            this.slots.set(victim, entry);
+        }
+    }
+
+    /**
+     * Number of sets for the capacity.
+     * @param capacity The capacity
+     * @return Number of sets, a power of two
+     */
+    private static int sets(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity %d must be positive", capacity)
+            );
+        }
+        final int sets = (capacity - 1) / URNCache.WAYS + 1;
+        return Integer.highestOneBit(sets * 2 - 1);
+    }
+
+    /**
+     * Make stripes.
+     * @param count How many, a power of two
+     * @param capacity Total number of slots
+     * @return The stripes
+     */
+    private static URNCache.Stripe[] striped(final int count,
+        final int capacity) {
+        final URNCache.Stripe[] stripes = new URNCache.Stripe[count];
+        for (int idx = 0; idx < stripes.length; ++idx) {
+            stripes[idx] = new URNCache.Stripe(capacity / count);
+        }
+        return stripes;
+    }
+
+    /**
+     * A part of the sets, with its own lock and its own sketch.
+     *
+     * @since 1.0
+     */
+    private static final class Stripe {
+
+        /**
+         * Bits of a counter.
+         */
+        private static final long NIBBLE = 15L;
+
+        /**
+         * Minimum number of words in a sketch, so that small stripes don't
+         * confuse frequent texts with rare ones.
+         */
+        private static final int WORDS = 32;
+
+        /**
+         * Every counter of a word, without its highest bit.
+         */
+        private static final long HALVES = 0x7777_7777_7777_7777L;
+
+        /**
+         * The lock.
+         */
+        private final ReentrantLock lock;
+
+        /**
+         * Count-min sketch of depth four: sixteen 4-bit counters per word,
+         * four of which, one in each quarter of the word, count a hash.
+         */
+        private final AtomicLongArray sketch;
+
+        /**
+         * Increments since the sketch was halved.
+         */
+        private final AtomicInteger samples;
+
+        /**
+         * How many increments to make before halving.
+         */
+        private final int period;
+
+        /**
+         * Clock hand, which points to a way to evict, changed under the lock.
+         */
+        private int hand;
+
+        /**
+         * Ctor.
+         * @param slots Number of slots in the stripe
+         */
+        Stripe(final int slots) {
+            this.lock = new ReentrantLock();
+            this.sketch = new AtomicLongArray(
+                Integer.highestOneBit(Math.max(slots, Stripe.WORDS))
+            );
+            this.samples = new AtomicInteger();
+            this.period = Math.max(slots, URNCache.WAYS) * 10;
+        }
+
+        /**
+         * Count one more occurrence of the hash.
+         *
+         * <p>The counters get one attempt to be incremented, and if
+         * another thread has just changed the same word, the increment is
+         * lost, which only makes the estimate a bit lower.
+         *
+         * @param hash The hash
+         */
+        void record(final int hash) {
+            final int pos = this.word(hash);
+            final long word = this.sketch.get(pos);
+            long next = word;
+            for (int idx = 0; idx < 4; ++idx) {
+                final int shift = Stripe.shift(hash, idx);
+                if ((word >>> shift & Stripe.NIBBLE) < Stripe.NIBBLE) {
+                    next += 1L << shift;
+                }
+            }
+            if (next != word && this.sketch.compareAndSet(pos, word, next)
+                && this.samples.incrementAndGet() == this.period) {
+                this.halve();
+            }
+        }
+
+        /**
+         * Estimate how many times the hash was seen recently.
+         * @param hash The hash
+         * @return The estimate, from 0 to 15
+         */
+        int frequency(final int hash) {
+            final long word = this.sketch.get(this.word(hash));
+            long freq = Stripe.NIBBLE;
+            for (int idx = 0; idx < 4; ++idx) {
+                freq = Math.min(
+                    freq, word >>> Stripe.shift(hash, idx) & Stripe.NIBBLE
+                );
+            }
+            return (int) freq;
+        }
+
+        /**
+         * Move the clock hand to the next way.
+         * @return The way it pointed to
+         */
+        int tick() {
+            final int way = this.hand;
+            this.hand = way + 1 & URNCache.WAYS - 1;
+            return way;
+        }
+
+        /**
+         * Halve all counters.
+         */
+        private void halve() {
+            for (int pos = 0; pos < this.sketch.length(); ++pos) {
+                long word = this.sketch.get(pos);
+                while (!this.sketch.compareAndSet(
+                    pos, word, word >>> 1 & Stripe.HALVES
+                )) {
+                    word = this.sketch.get(pos);
+                }
+            }
+            this.samples.set(this.period >>> 1);
+        }
+
+        /**
+         * Position of the word of the hash in the sketch.
+         * @param hash The hash
+         * @return Position
+         */
+        private int word(final int hash) {
+            return (hash * 0x97CB_3127 ^ hash >>> 15) & this.sketch.length() - 1;
+        }
+
+        /**
+         * Shift of a counter of the hash in its word.
+         * @param hash The hash
+         * @param idx Number of the counter, from 0 to 3
+         * @return Shift, in bits
+         */
+        private static int shift(final int hash, final int idx) {
+            return (idx << 2 | hash >>> (idx << 3) & 3) << 2;
+        }
+    }
+
+    /**
+     * Text and the result of its parsing.
+     *
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * The text.
+         */
+        private final String text;
+
+        /**
+         * Hash of the text.
+         */
+        private final int hash;
+
+        /**
+         * The URN, or NULL if the text is not valid.
+         */
+        private final URN parsed;
+
+        /**
+         * Result of {@link Grammar#scan(CharSequence, int, int)}.
+         */
+        private final long scanned;
+
+        /**
+         * Ctor, which parses the text.
+         * @param txt The text
+         * @param code Hash of the text
+         */
+        Entry(final String txt, final int code) {
+            this(txt, code, Grammar.scan(txt, 0, txt.length()));
+        }
+
+        /**
+         * Ctor.
+         * @param txt The text
+         * @param code Hash of the text
+         * @param parts Result of {@link Grammar#scan(CharSequence, int, int)}
+         */
+        private Entry(final String txt, final int code, final long parts) {
+            this.text = txt;
+            this.hash = code;
+            this.parsed = URNCache.Entry.urn(txt, parts);
+            this.scanned = parts;
+        }
+
+        /**
+         * The URN.
+         * @return The URN
+         * @throws IllegalArgumentException If the text is not valid
+         */
+        URN urn() {
+            if (this.parsed == null) {
+                throw new IllegalArgumentException(
+                    Grammar.invalid(this.text, this.scanned)
+                );
+            }
+            return this.parsed;
+        }
+
+        /**
+         * Make a URN, if the text is valid.
+         * @param txt The text
+         * @param parts Result of {@link Grammar#scan(CharSequence, int, int)}
+         * @return The URN or NULL
+         */
+        private static URN urn(final String txt, final long parts) {
+            URN urn = null;
+            if (parts >= 0L) {
+                urn = new URN(txt, Grammar.colon(parts), Grammar.query(parts));
+            }
+            return urn;
+        }
+    }
+
+}
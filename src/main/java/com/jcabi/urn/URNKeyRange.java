@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import com.jcabi.aspects.Immutable;
+import java.util.Arrays;
+
+/**
+ * Range of keys made by {@link URN#toSortableBytes()}, of all URNs that
+ * match a pattern.
+ *
+ * <p>The pattern is the same as in {@link URN#matches(String)}: either
+ * the text of the URN, or a prefix of it followed by an asterisk. A URN
+ * matches the pattern if and only if its key is in the range, from
+ * {@link #low()} inclusive to {@link #high()} exclusive, so a scan of
+ * the range in a sorted store finds all matching URNs and nothing else:
+ *
+ * <pre> URNKeyRange range = URNKeyRange.matching("urn:order:2024*");
+ * byte[] key = URN.create("urn:order:2024:17").toSortableBytes();
+ * assert range.contains(key);</pre>
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@Immutable
+public final class URNKeyRange {
+
+    /**
+     * The lowest key.
+     */
+    @Immutable.Array
+    private final byte[] lowest;
+
+    /**
+     * The key after the highest one.
+     */
+    @Immutable.Array
+    private final byte[] highest;
+
+    /**
+     * Ctor.
+     * @param keys The lowest key and the key after the highest one
+     */
+    private URNKeyRange(final byte[]... keys) {
+        this.lowest = keys[0];
+        this.highest = keys[1];
+    }
+
+    /**
+     * Range of keys of URNs that match the pattern.
+     * @param pattern The pattern
+     * @return The range
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URNKeyRange matching(final String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern can't be NULL");
+        }
+        final boolean prefix = pattern.endsWith("*");
+        String text = pattern;
+        if (prefix) {
+            text = pattern.substring(0, pattern.length() - 1);
+        }
+        return new URNKeyRange(Sortable.range(text, !prefix));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "[%s, %s)", URNKeyRange.hex(this.lowest),
+            URNKeyRange.hex(this.highest)
+        );
+    }
+
+    /**
+     * The lowest key in the range.
+     * @return The key
+     */
+    public byte[] low() {
+        return this.lowest.clone();
+    }
+
+    /**
+     * The key right after the highest key in the range.
+     * @return The key
+     */
+    public byte[] high() {
+        return this.highest.clone();
+    }
+
+    /**
+     * There are no keys in the range?
+     * @return TRUE if no URN matches the pattern
+     */
+    public boolean isEmpty() {
+        return Arrays.equals(this.lowest, this.highest);
+    }
+
+    /**
+     * The key is in the range?
+     * @param key The key, see {@link URN#toSortableBytes()}
+     * @return TRUE if it is
+     */
+    public boolean contains(final byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key can't be NULL");
+        }
+        return Sortable.compare(this.lowest, key) <= 0
+            && Sortable.compare(key, this.highest) < 0;
+    }
+
+    /**
+     * Bytes in hex.
+     * @param bytes The bytes
+     * @return Text
+     */
+    private static String hex(final byte[] bytes) {
+        final StringBuilder text = new StringBuilder(bytes.length << 1);
+        for (final byte octet : bytes) {
+            text.append(String.format("%02x", octet));
+        }
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent map of URNs to values, kept in a radix tree.
+ *
+ * <p>URNs that share a beginning, like "urn:tenant:acme:" or even
+ * "urn:tenant:acme:order:1", share nodes of the tree, where the common part
+ * is kept once, instead of being repeated in every key. All entries under
+ * a prefix are one subtree:
+ *
+ * <pre> URNMap&lt;Order&gt; orders = new URNMap&lt;&gt;();
+ * orders.put(URN.create("urn:tenant:acme:order:1"), order);
+ * for (Map.Entry&lt;URN, Order&gt; entry
+ *   : orders.matching("urn:tenant:acme:*")) {
+ *   // all orders of ACME, and nothing else
+ * }</pre>
+ *
+ * <p>Entries are ordered as their keys are by {@link URN#compareTo(URN)}.
+ * {@link #matching(String)} selects them as {@link URN#matches(String)}
+ * does: by the prefix before the trailing asterisk, or exactly.
+ *
+ * <p>The map is thread-safe. The tree is never changed: every change
+ * makes a new root, sharing all nodes but those on the path to the
+ * changed key with the old one, and sets it with compare-and-set,
+ * retrying if another change came first. Lookups never wait and never
+ * retry. Iterators work on the root that was current when they were
+ * made, and never throw {@link java.util.ConcurrentModificationException}.
+ * Keys are not kept as URNs, but as characters of the tree, so iterators
+ * make a new URN for every entry.
+ *
+ * @param <V> Type of values
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class URNMap<V> implements Iterable<Map.Entry<URN, V>> {
+
+    /**
+     * Root of the tree.
+     */
+    private final AtomicReference<Radix<V>> root;
+
+    /**
+     * Ctor, of an empty map.
+     */
+    public URNMap() {
+        this.root = new AtomicReference<>(new Radix<>());
+    }
+
+    /**
+     * Get the value of the URN.
+     * @param urn The URN
+     * @return The value or NULL if there is none
+     */
+    public V get(final URN urn) {
+        return this.root.get().get(URNMap.key(urn));
+    }
+
+    /**
+     * Is the URN in the map?
+     * @param urn The URN
+     * @return TRUE if it is
+     */
+    public boolean containsKey(final URN urn) {
+        return this.get(urn) != null;
+    }
+
+    /**
+     * Put the value of the URN.
+     * @param urn The URN
+     * @param value The value
+     * @return The previous value or NULL if there was none
+     */
+    public V put(final URN urn, final V value) {
+        URNMap.check(value);
+        return this.change(URNMap.key(urn), old -> value);
+    }
+
+    /**
+     * Put the value of the URN, if there is none yet.
+     * @param urn The URN
+     * @param value The value
+     * @return The current value or NULL if there was none, and the new
+     *  one is put
+     */
+    public V putIfAbsent(final URN urn, final V value) {
+        URNMap.check(value);
+        return this.change(
+            URNMap.key(urn),
+            old -> {
+                V next = old;
+                if (next == null) {
+                    next = value;
+                }
+                return next;
+            }
+        );
+    }
+
+    /**
+     * Remove the URN.
+     * @param urn The URN
+     * @return The previous value or NULL if there was none
+     */
+    public V remove(final URN urn) {
+        return this.change(URNMap.key(urn), old -> null);
+    }
+
+    /**
+     * Remove all URNs.
+     */
+    public void clear() {
+        this.root.set(new Radix<>());
+    }
+
+    /**
+     * Number of URNs in the map.
+     * @return The number
+     */
+    public int size() {
+        return this.root.get().size();
+    }
+
+    /**
+     * Is it empty?
+     * @return TRUE if there are no URNs
+     */
+    public boolean isEmpty() {
+        return this.root.get().isEmpty();
+    }
+
+    @Override
+    public Iterator<Map.Entry<URN, V>> iterator() {
+        return this.matching("*").iterator();
+    }
+
+    /**
+     * Entries with URNs that match the pattern, in the order of URNs.
+     *
+     * <p>The pattern is as in {@link URN#matches(String)}: if it ends with
+     * an asterisk, all URNs that start with the rest of it match,
+     * otherwise only the URN that is equal to it. The entries are found
+     * when the iterator is made, in time proportional to the length of the
+     * pattern, and come one by one, without looking at any other entries.
+     *
+     * @param pattern The pattern
+     * @return Entries
+     */
+    public Iterable<Map.Entry<URN, V>> matching(final String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern can't be NULL");
+        }
+        return () -> new URNMap.Entries<>(
+            URNMap.entries(this.root.get(), pattern)
+        );
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(0).append('{');
+        for (final Map.Entry<URN, V> entry : this) {
+            if (text.length() > 1) {
+                text.append(", ");
+            }
+            text.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return text.append('}').toString();
+    }
+
+    /**
+     * Change the value of the key.
+     * @param key The key
+     * @param fun The function that makes the new value from the old one
+     * @return The old value
+     */
+    private V change(final String key, final UnaryOperator<V> fun) {
+        Radix<V> before;
+        V old;
+        do {
+            before = this.root.get();
+            old = before.get(key);
+        } while (!this.root.compareAndSet(before, before.update(key, fun)));
+        return old;
+    }
+
+    /**
+     * Texts and values of the tree that match the pattern.
+     * @param tree Root of the tree
+     * @param pattern The pattern
+     * @param <V> Type of values
+     * @return Texts and values
+     */
+    private static <V> Iterator<Map.Entry<String, V>> entries(
+        final Radix<V> tree, final String pattern) {
+        final int length = pattern.length();
+        final Iterator<Map.Entry<String, V>> entries;
+        if (length > 0 && pattern.charAt(length - 1) == '*') {
+            entries = tree.entries(pattern.substring(0, length - 1));
+        } else {
+            final V value = tree.get(pattern);
+            if (value == null) {
+                entries = Collections.emptyIterator();
+            } else {
+                entries = Collections.singletonMap(pattern, value)
+                    .entrySet().iterator();
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Key of the URN in the tree.
+     * @param urn The URN
+     * @return The key
+     */
+    private static String key(final URN urn) {
+        if (urn == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        return urn.toString();
+    }
+
+    /**
+     * Check the value.
+     * @param value The value
+     */
+    private static void check(final Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value can't be NULL");
+        }
+    }
+
+    /**
+     * Iterator of entries that match a pattern.
+     *
+     * @param <V> Type of values
+     * @since 1.0
+     */
+    private static final class Entries<V>
+        implements Iterator<Map.Entry<URN, V>> {
+
+        /**
+         * Texts and values of the tree.
+         */
+        private final Iterator<Map.Entry<String, V>> origin;
+
+        /**
+         * Ctor.
+         * @param entries Texts and values of the tree
+         */
+        Entries(final Iterator<Map.Entry<String, V>> entries) {
+            this.origin = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.origin.hasNext();
+        }
+
+        @Override
+        public Map.Entry<URN, V> next() {
+            final Map.Entry<String, V> entry = this.origin.next();
+            return new AbstractMap.SimpleImmutableEntry<>(
+                Composer.trusted(entry.getKey(), false), entry.getValue()
+            );
+        }
+    }
+
+}
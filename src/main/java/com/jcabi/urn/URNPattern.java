@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import com.jcabi.aspects.Immutable;
+import java.util.ArrayList;
+import java.util.Collection;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Compiled pattern of URNs, for matching many URNs against the same
+ * pattern.
+ *
+ * <p>The pattern is the same as in {@link URN#matches(String)}: a text
+ * that must be equal to the URN, or that ends with an asterisk and must
+ * be a prefix of the URN. On top of that, an asterisk that takes a whole
+ * segment between two colons matches any one segment, including an empty
+ * one, for example:
+ *
+ * <pre> URNPattern pattern = URNPattern.compile("urn:order:*:items*");
+ * assert pattern.matches("urn:order:42:items?limit=10");
+ * assert !pattern.matches("urn:order:42:7:items");</pre>
+ *
+ * <p>All other asterisks are taken literally. The pattern is examined
+ * once, in {@link #compile(String)}, and matching allocates nothing and
+ * visits every character of the text at most once.
+ *
+ * <p>By default, params are compared as all other characters. With
+ * {@link #ignoringParams()}, the query is cut off from both the pattern
+ * and the text before they are compared, but the trailing asterisk of
+ * the pattern stays, for example "urn:a:b?x=1*" becomes "urn:a:b*".
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@Immutable
+@EqualsAndHashCode(of = { "text", "loose" })
+@SuppressWarnings("PMD.TooManyMethods")
+public final class URNPattern {
+
+    /**
+     * The asterisk.
+     */
+    private static final char STAR = '*';
+
+    /**
+     * Separator of segments.
+     */
+    private static final char COLON = ':';
+
+    /**
+     * The pattern, as it was compiled.
+     */
+    private final String text;
+
+    /**
+     * Literal parts of the pattern, with segment wildcards between them.
+     */
+    @Immutable.Array
+    private final String[] literals;
+
+    /**
+     * The pattern ends with an asterisk, and matches by prefix.
+     */
+    private final boolean prefix;
+
+    /**
+     * Total length of literals, the shortest text that may match.
+     */
+    private final int least;
+
+    /**
+     * Params are ignored.
+     */
+    private final boolean loose;
+
+    /**
+     * Ctor.
+     * @param pattern The pattern
+     * @param ignore Ignore params
+     */
+    private URNPattern(final String pattern, final boolean ignore) {
+        this(pattern, URNPattern.body(pattern, ignore), ignore);
+    }
+
+    /**
+     * Ctor.
+     * @param pattern The pattern
+     * @param body The part of the pattern to compile
+     * @param ignore Ignore params
+     */
+    private URNPattern(final String pattern, final String body,
+        final boolean ignore) {
+        this.text = pattern;
+        this.literals = URNPattern.split(body);
+        this.prefix = URNPattern.starred(body);
+        this.least = URNPattern.sum(this.literals);
+        this.loose = ignore;
+    }
+
+    /**
+     * Compile the pattern.
+     * @param pattern The pattern, as in {@link URN#matches(String)}
+     * @return The compiled pattern
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static URNPattern compile(final String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern can't be NULL");
+        }
+        return new URNPattern(pattern, false);
+    }
+
+    /**
+     * The same pattern, which ignores params of the pattern and of URNs.
+     * @return The pattern
+     */
+    public URNPattern ignoringParams() {
+        return new URNPattern(this.text, true);
+    }
+
+    /**
+     * Does this URN match the pattern?
+     * @param urn The URN
+     * @return TRUE if it matches
+     */
+    public boolean matches(final URN urn) {
+        if (urn == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        return this.matches(urn.toString());
+    }
+
+    /**
+     * Does this text match the pattern?
+     *
+     * <p>The text is not validated: a text that is not a URN simply
+     * doesn't match patterns that are not like URNs.
+     *
+     * @param input The text
+     * @return TRUE if it matches
+     */
+    public boolean matches(final CharSequence input) {
+        if (input == null) {
+            throw new IllegalArgumentException("text can't be NULL");
+        }
+        final int end = URNPattern.end(input, this.loose);
+        int pos = 0;
+        boolean matches = end == this.least
+            || end > this.least && (this.prefix || this.literals.length > 1);
+        for (int idx = 0; matches && idx < this.literals.length; ++idx) {
+            if (idx > 0) {
+                pos = URNPattern.skip(input, pos, end);
+            }
+            matches = URNPattern.same(input, pos, end, this.literals[idx]);
+            pos += this.literals[idx].length();
+        }
+        return matches && (this.prefix || pos == end);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+
+    /**
+     * The part of the pattern to compile.
+     * @param pattern The pattern
+     * @param ignore Ignore params
+     * @return The part
+     */
+    private static String body(final String pattern, final boolean ignore) {
+        String body = pattern;
+        final int end = URNPattern.end(pattern, ignore);
+        if (end < pattern.length()) {
+            body = pattern.substring(0, end);
+            if (URNPattern.starred(pattern)) {
+                body = body.concat(String.valueOf(URNPattern.STAR));
+            }
+        }
+        return body;
+    }
+
+    /**
+     * The pattern ends with an asterisk?
+     * @param body The part of the pattern to compile
+     * @return TRUE if it does
+     */
+    private static boolean starred(final String body) {
+        return !body.isEmpty()
+            && body.charAt(body.length() - 1) == URNPattern.STAR;
+    }
+
+    /**
+     * Total length of literals.
+     * @param literals The literals
+     * @return The length
+     */
+    private static int sum(final String... literals) {
+        int sum = 0;
+        for (final String literal : literals) {
+            sum += literal.length();
+        }
+        return sum;
+    }
+
+    /**
+     * Split the pattern into literals around segment wildcards, dropping
+     * the trailing asterisk.
+     * @param body The part of the pattern to compile
+     * @return The literals
+     */
+    private static String[] split(final String body) {
+        String pattern = body;
+        if (URNPattern.starred(body)) {
+            pattern = body.substring(0, body.length() - 1);
+        }
+        final Collection<String> parts = new ArrayList<>(1);
+        int start = 0;
+        for (int idx = 1; idx < pattern.length() - 1; ++idx) {
+            if (pattern.charAt(idx) == URNPattern.STAR
+                && pattern.charAt(idx - 1) == URNPattern.COLON
+                && pattern.charAt(idx + 1) == URNPattern.COLON) {
+                parts.add(pattern.substring(start, idx));
+                start = idx + 1;
+            }
+        }
+        parts.add(pattern.substring(start));
+        return parts.toArray(new String[0]);
+    }
+
+    /**
+     * Where the text ends, for matching.
+     * @param input The text
+     * @param ignore Ignore params
+     * @return Position of the question mark, or the length of the text
+     */
+    private static int end(final CharSequence input, final boolean ignore) {
+        int end = input.length();
+        if (ignore) {
+            end = 0;
+            while (end < input.length() && input.charAt(end) != '?') {
+                ++end;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Skip one segment.
+     * @param input The text
+     * @param start Where the segment starts
+     * @param end Where the text ends
+     * @return Where the segment ends
+     */
+    private static int skip(final CharSequence input, final int start,
+        final int end) {
+        int pos = start;
+        while (pos < end && input.charAt(pos) != URNPattern.COLON
+            && input.charAt(pos) != '?') {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * The text has this literal at this position?
+     *
+     * <p>Characters are compared from the last one, since URNs that meet
+     * the same pattern usually share the beginning, like "urn:order:",
+     * and differ closer to the end.
+     *
+     * @param input The text
+     * @param start The position
+     * @param end Where the text ends
+     * @param literal The literal
+     * @return TRUE if it has
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static boolean same(final CharSequence input, final int start,
+        final int end, final String literal) {
+        boolean same = end - start >= literal.length();
+        for (int idx = literal.length() - 1; same && idx >= 0; --idx) {
+            same = input.charAt(start + idx) == literal.charAt(idx);
+        }
+        return same;
+    }
+
+}
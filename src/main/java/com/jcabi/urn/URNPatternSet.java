@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Set of many patterns of URNs, each with its rule, matched all at once.
+ *
+ * <p>Patterns are as in {@link URN#matches(String)}: a text must be
+ * equal to the URN, or end with an asterisk and be a prefix of it. Segment
+ * wildcards of {@link URNPattern} are not supported here: an asterisk in
+ * the middle of a pattern is taken literally. All patterns are kept in one
+ * radix tree, so {@link #rules(CharSequence)} and
+ * {@link #best(CharSequence)} walk the URN once, in time proportional to
+ * its length, whether there are ten patterns or a hundred thousand:
+ *
+ * <pre> URNPatternSet&lt;String&gt; acl = new URNPatternSet&lt;&gt;();
+ * acl.add("urn:order:*", "read-orders");
+ * acl.add("urn:order:42", "owner");
+ * assert acl.best("urn:order:42").get().equals("owner");</pre>
+ *
+ * <p>The set is thread-safe and lookups never wait: every change makes
+ * a new tree, sharing unchanged nodes with the old one, and swaps the
+ * root atomically. Lookups that are running at the moment finish with
+ * the old tree. Changes are cheap one by one, but to replace all rules at
+ * once, use {@link #reset(Map)}, which builds the new tree aside.
+ *
+ * @param <T> Type of rules
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+public final class URNPatternSet<T> {
+
+    /**
+     * The asterisk.
+     */
+    private static final char STAR = '*';
+
+    /**
+     * Root of the tree.
+     */
+    private final AtomicReference<Radix<URNPatternSet.Rules<T>>> root;
+
+    /**
+     * Ctor, of an empty set.
+     */
+    public URNPatternSet() {
+        this.root = new AtomicReference<>(new Radix<>());
+    }
+
+    /**
+     * Add a pattern with its rule.
+     *
+     * <p>A pattern may have many rules and a rule may have many patterns,
+     * but the same rule is added to the same pattern only once.
+     *
+     * @param pattern The pattern
+     * @param rule The rule
+     */
+    public void add(final String pattern, final T rule) {
+        URNPatternSet.check(pattern, rule);
+        final boolean prefix = URNPatternSet.prefix(pattern);
+        final CharSequence key = URNPatternSet.key(pattern);
+        this.root.updateAndGet(
+            tree -> tree.update(
+                key,
+                rules -> URNPatternSet.Rules.with(rules, rule, prefix)
+            )
+        );
+    }
+
+    /**
+     * Remove the rule of a pattern, if it is there.
+     * @param pattern The pattern
+     * @param rule The rule
+     */
+    public void remove(final String pattern, final T rule) {
+        URNPatternSet.check(pattern, rule);
+        final boolean prefix = URNPatternSet.prefix(pattern);
+        final CharSequence key = URNPatternSet.key(pattern);
+        this.root.updateAndGet(
+            tree -> tree.update(
+                key,
+                rules -> URNPatternSet.Rules.without(rules, rule, prefix)
+            )
+        );
+    }
+
+    /**
+     * Replace all patterns and rules at once.
+     *
+     * <p>The new tree replaces whatever tree is there at the moment, so
+     * changes made by {@link #add(String, Object)} and
+     * {@link #remove(String, Object)} in other threads while it is being
+     * built are lost, like all other old rules. Changes made after it are
+     * applied to the new tree. Don't call it together with other writers,
+     * if their changes must survive.
+     *
+     * @param rules Patterns and their rules
+     */
+    public void reset(final Map<String, T> rules) {
+        Radix<URNPatternSet.Rules<T>> tree = new Radix<>();
+        for (final Map.Entry<String, T> entry : rules.entrySet()) {
+            URNPatternSet.check(entry.getKey(), entry.getValue());
+            final boolean prefix = URNPatternSet.prefix(entry.getKey());
+            tree = tree.update(
+                URNPatternSet.key(entry.getKey()),
+                old -> URNPatternSet.Rules.with(old, entry.getValue(), prefix)
+            );
+        }
+        this.root.set(tree);
+    }
+
+    /**
+     * Is it empty?
+     * @return TRUE if there are no patterns
+     */
+    public boolean isEmpty() {
+        return this.root.get().isEmpty();
+    }
+
+    /**
+     * Find rules of all patterns that match the URN.
+     *
+     * <p>Rules go from the least specific to the most specific: rules of
+     * shorter prefixes first, rules of exact patterns last.
+     *
+     * @param urn The URN
+     * @return The rules, maybe none
+     */
+    public List<T> rules(final CharSequence urn) {
+        if (urn == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        final List<T> found = new ArrayList<>(0);
+        this.root.get().walk(
+            urn,
+            (rules, whole) -> rules.collect(found, whole)
+        );
+        return found;
+    }
+
+    /**
+     * Find the rule of the most specific pattern that matches the URN:
+     * an exact pattern, if there is one, or the longest prefix otherwise.
+     * If there are many rules of that pattern, the first added one wins.
+     * @param urn The URN
+     * @return The rule, if any pattern matches
+     */
+    public Optional<T> best(final CharSequence urn) {
+        if (urn == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        final URNPatternSet.Best<T> best = new URNPatternSet.Best<>();
+        this.root.get().walk(urn, best);
+        return Optional.ofNullable(best.rule);
+    }
+
+    /**
+     * Check arguments.
+     * @param pattern The pattern
+     * @param rule The rule
+     */
+    private static void check(final String pattern, final Object rule) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern can't be NULL");
+        }
+        if (rule == null) {
+            throw new IllegalArgumentException("rule can't be NULL");
+        }
+    }
+
+    /**
+     * Is it a prefix pattern?
+     * @param pattern The pattern
+     * @return TRUE if it ends with an asterisk
+     */
+    private static boolean prefix(final String pattern) {
+        return !pattern.isEmpty()
+            && pattern.charAt(pattern.length() - 1) == URNPatternSet.STAR;
+    }
+
+    /**
+     * Key of the pattern in the tree.
+     * @param pattern The pattern
+     * @return The pattern without the trailing asterisk
+     */
+    private static CharSequence key(final String pattern) {
+        CharSequence key = pattern;
+        if (URNPatternSet.prefix(pattern)) {
+            key = pattern.substring(0, pattern.length() - 1);
+        }
+        return key;
+    }
+
+    /**
+     * Rules of one key: of the exact pattern and of the prefix one.
+     *
+     * @param <T> Type of rules
+     * @since 1.0
+     */
+    private static final class Rules<T> {
+
+        /**
+         * Nothing.
+         */
+        private static final Object[] NONE = new Object[0];
+
+        /**
+         * Rules of the exact pattern.
+         */
+        private final Object[] exact;
+
+        /**
+         * Rules of the prefix pattern.
+         */
+        private final Object[] prefix;
+
+        /**
+         * Ctor.
+         * @param exct Rules of the exact pattern
+         * @param prfx Rules of the prefix pattern
+         */
+        @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+        private Rules(final Object[] exct, final Object[] prfx) {
+            this.exact = exct;
+            this.prefix = prfx;
+        }
+
+        /**
+         * Collect rules that match.
+         * @param found Where to collect
+         * @param whole The key is the whole URN
+         */
+        @SuppressWarnings("unchecked")
+        void collect(final Collection<T> found, final boolean whole) {
+            for (final Object rule : this.prefix) {
+                found.add((T) rule);
+            }
+            if (whole) {
+                for (final Object rule : this.exact) {
+                    found.add((T) rule);
+                }
+            }
+        }
+
+        /**
+         * The first rule that matches.
+         * @param whole The key is the whole URN
+         * @return The rule or NULL
+         */
+        @SuppressWarnings("unchecked")
+        T first(final boolean whole) {
+            T rule = null;
+            if (whole && this.exact.length > 0) {
+                rule = (T) this.exact[0];
+            } else if (this.prefix.length > 0) {
+                rule = (T) this.prefix[0];
+            }
+            return rule;
+        }
+
+        /**
+         * Rules with one more.
+         * @param rules Current rules or NULL
+         * @param rule The rule to add
+         * @param prefix Of the prefix pattern
+         * @param <T> Type of rules
+         * @return New rules
+         */
+        static <T> URNPatternSet.Rules<T> with(
+            final URNPatternSet.Rules<T> rules, final T rule,
+            final boolean prefix) {
+            URNPatternSet.Rules<T> next = rules;
+            if (next == null) {
+                next = new URNPatternSet.Rules<>(
+                    URNPatternSet.Rules.NONE, URNPatternSet.Rules.NONE
+                );
+            }
+            if (prefix && !Arrays.asList(next.prefix).contains(rule)) {
+                next = new URNPatternSet.Rules<>(
+                    next.exact, URNPatternSet.Rules.plus(next.prefix, rule)
+                );
+            } else if (!prefix && !Arrays.asList(next.exact).contains(rule)) {
+                next = new URNPatternSet.Rules<>(
+                    URNPatternSet.Rules.plus(next.exact, rule), next.prefix
+                );
+            }
+            return next;
+        }
+
+        /**
+         * Rules without one, or NULL if there are none left.
+         * @param rules Current rules or NULL
+         * @param rule The rule to remove
+         * @param prefix Of the prefix pattern
+         * @param <T> Type of rules
+         * @return New rules or NULL
+         */
+        static <T> URNPatternSet.Rules<T> without(
+            final URNPatternSet.Rules<T> rules, final T rule,
+            final boolean prefix) {
+            URNPatternSet.Rules<T> next = rules;
+            if (next != null && prefix
+                && Arrays.asList(next.prefix).contains(rule)) {
+                next = new URNPatternSet.Rules<>(
+                    next.exact, URNPatternSet.Rules.minus(next.prefix, rule)
+                );
+            } else if (next != null && !prefix
+                && Arrays.asList(next.exact).contains(rule)) {
+                next = new URNPatternSet.Rules<>(
+                    URNPatternSet.Rules.minus(next.exact, rule), next.prefix
+                );
+            }
+            URNPatternSet.Rules<T> left = null;
+            if (next != null && next.exact.length + next.prefix.length > 0) {
+                left = next;
+            }
+            return left;
+        }
+
+        /**
+         * Add to the array.
+         * @param rules The array
+         * @param rule The rule
+         * @return New array
+         */
+        private static Object[] plus(final Object[] rules, final Object rule) {
+            final Object[] next = Arrays.copyOf(rules, rules.length + 1);
+            next[rules.length] = rule;
+            return next;
+        }
+
+        /**
+         * Remove from the array.
+         * @param rules The array
+         * @param rule The rule
+         * @return New array
+         */
+        private static Object[] minus(final Object[] rules, final Object rule) {
+            final List<Object> next = new ArrayList<>(Arrays.asList(rules));
+            next.remove(rule);
+            return next.toArray();
+        }
+    }
+
+    /**
+     * Visitor that keeps the rule of the most specific pattern.
+     *
+     * @param <T> Type of rules
+     * @since 1.0
+     */
+    private static final class Best<T>
+        implements Radix.Visitor<URNPatternSet.Rules<T>> {
+
+        /**
+         * The rule found so far, or NULL.
+         */
+        private T rule;
+
+        @Override
+        public void visit(final URNPatternSet.Rules<T> rules,
+            final boolean whole) {
+            final T first = rules.first(whole);
+            if (first != null) {
+                this.rule = first;
+            }
+        }
+    }
+
+}
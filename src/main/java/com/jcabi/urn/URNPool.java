@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of canonical {@link URN} instances, used by {@link URN#intern()}.
+ *
+ * <p>The pool keeps weak references, so a URN which is not used anywhere
+ * else disappears from the pool at the next garbage collection. The pool
+ * is split into stripes by hash code, each with its own lock, so threads
+ * that intern different URNs rarely wait for each other:
+ *
+ * <pre> URN urn = URN.create("urn:test:x").intern();
+ * assert urn == URN.create("urn:test:x").intern();
+ * assert URN.pool().size() &gt; 0;</pre>
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+public final class URNPool {
+
+    /**
+     * Number of stripes, a power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * The stripes.
+     */
+    private final URNPool.Stripe[] stripes;
+
+    /**
+     * How many times a URN was found in the pool.
+     */
+    private final LongAdder found;
+
+    /**
+     * How many times a URN was added to the pool.
+     */
+    private final LongAdder added;
+
+    /**
+     * Ctor.
+     */
+    URNPool() {
+        this.stripes = URNPool.striped();
+        this.found = new LongAdder();
+        this.added = new LongAdder();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d URNs, %d hits, %d misses", this.size(), this.hits(),
+            this.misses()
+        );
+    }
+
+    /**
+     * How many URNs are in the pool now, including the ones that are not
+     * used anywhere else, but not yet collected by the garbage collector.
+     * @return Number of URNs
+     */
+    public int size() {
+        int size = 0;
+        for (final URNPool.Stripe stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * How many times an equal URN was already in the pool.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.found.sum();
+    }
+
+    /**
+     * How many times a URN was not in the pool and was added.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.added.sum();
+    }
+
+    /**
+     * Share of hits among all interned URNs.
+     * @return The rate, from 0 to 1, or 0 if nothing was interned yet
+     */
+    public double hitRate() {
+        final long hits = this.hits();
+        final long total = hits + this.misses();
+        double rate = 0.0d;
+        if (total > 0L) {
+            rate = (double) hits / (double) total;
+        }
+        return rate;
+    }
+
+    /**
+     * Find the canonical URN, equal to the given one, or make the given
+     * one canonical.
+     * @param urn The URN
+     * @return The canonical URN
+     */
+    URN intern(final URN urn) {
+        final int code = urn.toString().hashCode();
+        final int hash = code ^ code >>> 16;
+        URN canonical = this.stripes[hash >>> 26].intern(urn, hash);
+        if (canonical == null) {
+            this.added.increment();
+            canonical = urn;
+        } else {
+            this.found.increment();
+        }
+        return canonical;
+    }
+
+    /**
+     * Make empty stripes.
+     * @return The stripes
+     */
+    private static URNPool.Stripe[] striped() {
+        final URNPool.Stripe[] stripes = new URNPool.Stripe[URNPool.STRIPES];
+        for (int idx = 0; idx < stripes.length; ++idx) {
+            stripes[idx] = new URNPool.Stripe();
+        }
+        return stripes;
+    }
+
+    /**
+     * A part of the pool, with its own lock and its own hash table.
+     *
+     * @since 1.0
+     */
+    private static final class Stripe {
+
+        /**
+         * Initial size of the table, a power of two.
+         */
+        private static final int INITIAL = 16;
+
+        /**
+         * The lock.
+         */
+        private final ReentrantLock lock;
+
+        /**
+         * References to URNs that were collected.
+         */
+        private final ReferenceQueue<URN> queue;
+
+        /**
+         * Hash table with chains of entries.
+         */
+        private URNPool.Entry[] table;
+
+        /**
+         * Number of entries in the table.
+         */
+        private int count;
+
+        /**
+         * Ctor.
+         */
+        Stripe() {
+            this.lock = new ReentrantLock();
+            this.queue = new ReferenceQueue<>();
+            this.table = new URNPool.Entry[URNPool.Stripe.INITIAL];
+        }
+
+        /**
+         * Find an equal URN, which may be this very one, or add this one.
+         * @param urn The URN
+         * @param hash Its hash
+         * @return The URN found or NULL, if this one was added
+         */
+        URN intern(final URN urn, final int hash) {
+            this.lock.lock();
+            try {
+                this.expunge();
+                final int bucket = hash & this.table.length - 1;
+                final URN canonical = this.find(urn, hash, bucket);
+                if (canonical == null) {
+                    this.table[bucket] = new URNPool.Entry(
+                        urn, hash, this.table[bucket], this.queue
+                    );
+                    ++this.count;
+                    final int limit = this.table.length >> 2;
+                    if (this.count > limit * 3) {
+                        this.resize();
+                    }
+                }
+                return canonical;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Number of entries.
+         * @return The number
+         */
+        int size() {
+            this.lock.lock();
+            try {
+                this.expunge();
+                return this.count;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Find an equal URN in the chain.
+         * @param urn The URN
+         * @param hash Its hash
+         * @param bucket Index of the chain in the table
+         * @return The URN found or NULL
+         */
+        private URN find(final URN urn, final int hash, final int bucket) {
+            URN canonical = null;
+            URNPool.Entry entry = this.table[bucket];
+            while (entry != null && canonical == null) {
+                final URN candidate = entry.get();
+                if (entry.hash == hash && candidate != null
+                    && candidate.toString().equals(urn.toString())) {
+                    canonical = candidate;
+                }
+                entry = entry.next;
+            }
+            return canonical;
+        }
+
+        /**
+         * Remove entries of collected URNs.
+         */
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        private void expunge() {
+            Reference<? extends URN> ref = this.queue.poll();
+            while (ref != null) {
+                final URNPool.Entry stale = (URNPool.Entry) ref;
+                final int bucket = stale.hash & this.table.length - 1;
+                URNPool.Entry prev = null;
+                URNPool.Entry entry = this.table[bucket];
+                while (entry != null && entry != stale) {
+                    prev = entry;
+                    entry = entry.next;
+                }
+                if (entry != null) {
+                    if (prev == null) {
+                        this.table[bucket] = entry.next;
+                    } else {
+                        prev.next = entry.next;
+                    }
+                    --this.count;
+                }
+                ref = this.queue.poll();
+            }
+        }
+
+        /**
+         * Double the size of the table.
+         */
+        private void resize() {
+            final URNPool.Entry[] bigger =
+                new URNPool.Entry[this.table.length << 1];
+            for (final URNPool.Entry head : this.table) {
+                URNPool.Entry entry = head;
+                while (entry != null) {
+                    final URNPool.Entry next = entry.next;
+                    final int bucket = entry.hash & bigger.length - 1;
+                    entry.next = bigger[bucket];
+                    bigger[bucket] = entry;
+                    entry = next;
+                }
+            }
+            this.table = bigger;
+        }
+    }
+
+    /**
+     * Weak reference to a URN in a chain of the hash table.
+     *
+     * @since 1.0
+     */
+    private static final class Entry extends WeakReference<URN> {
+
+        /**
+         * Hash of the URN.
+         */
+        private final int hash;
+
+        /**
+         * Next entry in the chain.
+         */
+        private URNPool.Entry next;
+
+        /**
+         * Ctor.
+         * @param urn The URN
+         * @param code Hash of the URN
+         * @param tail Next entry in the chain
+         * @param queue Queue for collected references
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Entry(final URN urn, final int code, final URNPool.Entry tail,
+            final ReferenceQueue<URN> queue) {
+            super(urn, queue);
+            this.hash = code;
+            this.next = tail;
+        }
+    }
+
+}
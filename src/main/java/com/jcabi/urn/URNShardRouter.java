@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Router of URNs to shards, by their NID and NSS, ignoring params.
+ *
+ * <p>The shard is found by
+ * <a href="https://arxiv.org/abs/1406.2294">jump consistent hash</a> of
+ * {@link URNs#fingerprint64(CharSequence)} of the NID and NSS, the part of
+ * the text between "urn:" and the question mark, so {@link URN#pure()} is
+ * never called and nothing is allocated. When the number of shards grows
+ * from N to N+1, only 1/(N+1) of URNs move, all of them to the new shard.
+ *
+ * <p>URNs of a NID with a weight are kept on a smaller share of shards:
+ * they are spread over that share of N virtual slots, rounded up, and
+ * every slot is routed by the same jump hash, so they stay on the same
+ * few shards as N grows:
+ *
+ * <pre> URNShardRouter router = new URNShardRouter(64).withWeight("tmp", 0.1);
+ * int shard = router.shard(URN.create("urn:order:42?v=3"));
+ * assert shard == router.shard("urn:order:42");</pre>
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+public final class URNShardRouter {
+
+    /**
+     * Position of NID in the text.
+     */
+    private static final int START = 4;
+
+    /**
+     * Number of shards.
+     */
+    private final int count;
+
+    /**
+     * Shares of shards of NIDs with weights.
+     */
+    private final Map<String, Double> shares;
+
+    /**
+     * Ctor.
+     * @param shards Number of shards
+     */
+    public URNShardRouter(final int shards) {
+        this(shards, Collections.emptyMap());
+    }
+
+    /**
+     * Ctor.
+     * @param shards Number of shards
+     * @param map Shares of shards of NIDs
+     */
+    private URNShardRouter(final int shards, final Map<String, Double> map) {
+        this.count = URNShardRouter.positive(shards);
+        this.shares = map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d shards, weights %s", this.count, this.shares);
+    }
+
+    /**
+     * The same router, with another number of shards.
+     * @param shards Number of shards
+     * @return New router
+     */
+    public URNShardRouter withShards(final int shards) {
+        return new URNShardRouter(shards, this.shares);
+    }
+
+    /**
+     * The same router, which keeps URNs of the NID on the given share of
+     * shards.
+     * @param nid The NID
+     * @param share Share of shards, more than 0 and up to 1
+     * @return New router
+     */
+    public URNShardRouter withWeight(final String nid, final double share) {
+        if (nid == null || !Grammar.identifier(nid)) {
+            throw new IllegalArgumentException(
+                String.format("Invalid NID '%s'", nid)
+            );
+        }
+        if (!(share > 0.0d && share <= 1.0d)) {
+            throw new IllegalArgumentException(
+                String.format("Share %s must be in (0, 1]", share)
+            );
+        }
+        final Map<String, Double> map = new HashMap<>(this.shares);
+        map.put(nid, share);
+        return new URNShardRouter(this.count, Collections.unmodifiableMap(map));
+    }
+
+    /**
+     * Number of shards.
+     * @return Number of shards
+     */
+    public int shards() {
+        return this.count;
+    }
+
+    /**
+     * Shard of the URN.
+     * @param urn The URN
+     * @return Shard, from zero to the number of shards, exclusive
+     */
+    public int shard(final URN urn) {
+        if (urn == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        String nid = "";
+        if (!this.shares.isEmpty()) {
+            nid = urn.nid();
+        }
+        return this.route(urn.toString(), urn.nidEnd(), urn.queryStart(), nid);
+    }
+
+    /**
+     * Shard of the URN in the text, which is validated, but not parsed
+     * into a {@link URN}.
+     * @param text The text of the URN
+     * @return Shard, from zero to the number of shards, exclusive
+     * @throws IllegalArgumentException If the text is not a valid URN
+     */
+    public int shard(final CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("URN can't be NULL");
+        }
+        final long parts = Grammar.scan(text, 0, text.length());
+        if (parts < 0L) {
+            throw new IllegalArgumentException(Grammar.invalid(text, parts));
+        }
+        final int colon = Grammar.colon(parts);
+        String nid = "";
+        if (!this.shares.isEmpty()) {
+            nid = Namespace.nid(text, URNShardRouter.START, colon);
+        }
+        return this.route(text, colon, Grammar.query(parts), nid);
+    }
+
+    /**
+     * Find the shard.
+     * @param text The text of the URN
+     * @param colon Position of the colon after NID
+     * @param end Position of the question mark or length of the text
+     * @param nid The NID
+     * @return The shard
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private int route(final CharSequence text, final int colon,
+        final int end, final String nid) {
+        final long key = URNs.xxhash(text, URNShardRouter.START, end);
+        final Double share = this.shares.get(nid);
+        final int shard;
+        if (share == null) {
+            shard = URNShardRouter.jump(key, this.count);
+        } else {
+            final int slots = (int) Math.ceil(share * this.count);
+            shard = URNShardRouter.jump(
+                URNShardRouter.mix(
+                    URNs.xxhash(text, URNShardRouter.START, colon)
+                        + URNShardRouter.jump(key, slots)
+                ),
+                this.count
+            );
+        }
+        return shard;
+    }
+
+    /**
+     * Jump consistent hash, by John Lamping and Eric Veach.
+     * @param key The key
+     * @param buckets Number of buckets
+     * @return The bucket
+     */
+    private static int jump(final long key, final int buckets) {
+        long hash = key;
+        long bucket = -1L;
+        long next = 0L;
+        while (next < buckets) {
+            bucket = next;
+            hash = hash * 2_862_933_555_777_941_757L + 1L;
+            next = (long) ((double) (bucket + 1L)
+                * ((double) (1L << 31) / (double) ((hash >>> 33) + 1L)));
+        }
+        return (int) bucket;
+    }
+
+    /**
+     * Mix bits of a number, with the finalizer of MurmurHash3.
+     * @param num The number
+     * @return Mixed number
+     */
+    private static long mix(final long num) {
+        long mixed = num ^ num >>> 33;
+        mixed *= 0xFF51_AFD7_ED55_8CCDL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xC4CE_B9FE_1A85_EC53L;
+        return mixed ^ mixed >>> 33;
+    }
+
+    /**
+     * Check the number of shards.
+     * @param shards Number of shards
+     * @return The same number
+     */
+    private static int positive(final int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException(
+                String.format("Number of shards %d must be positive", shards)
+            );
+        }
+        return shards;
+    }
+
+}
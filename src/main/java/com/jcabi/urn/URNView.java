@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Re-pointable view of a URN that sits in a byte array or a buffer.
+ *
+ * <p>The view parses nothing into objects: {@link #wrap(byte[], int, int)}
+ * validates the bytes in place and remembers where the parts are, and
+ * every accessor reads the bytes again. The same view can be wrapped
+ * around the next message, and the next, so a loop that reads millions of
+ * URNs out of network buffers allocates nothing per message. Decoded
+ * parts are appended to builders that the caller supplies and reuses:
+ *
+ * <pre> final URNView view = new URNView();
+ * final StringBuilder nss = new StringBuilder();
+ * for (final Message msg : messages) {
+ *   view.wrap(msg.bytes(), msg.offset(), msg.length());
+ *   if (view.matches("urn:isbn:*")) {
+ *     nss.setLength(0);
+ *     view.nss(nss);
+ *   }
+ * }</pre>
+ *
+ * <p>The view is not a {@link URN}: when one is needed, for example to
+ * keep it after the bytes are overwritten, call {@link #toURN()}.
+ * Bytes must not change while the view is wrapped around them, and the
+ * class is not thread-safe: use one view per thread. Until the view is
+ * wrapped around a valid URN, all its methods, except {@link #toString()},
+ * throw {@link IllegalStateException}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class URNView {
+
+    /**
+     * Position of NID in the text.
+     */
+    private static final int START = 4;
+
+    /**
+     * Characters of the view, empty if it is not wrapped yet.
+     */
+    private final Ascii chars;
+
+    /**
+     * Position of the colon after NID, relative to the start.
+     */
+    private int colon;
+
+    /**
+     * Position of the question mark or the length, relative to the start.
+     */
+    private int query;
+
+    /**
+     * Ctor, of a view that is not wrapped around anything yet.
+     */
+    public URNView() {
+        this.chars = new Ascii();
+    }
+
+    /**
+     * Wrap the view around a range of an array.
+     * @param bytes The array
+     * @param offset Position of the first byte of the URN
+     * @param length Number of bytes in the URN
+     * @return This view
+     * @throws IllegalArgumentException If the bytes are not a valid URN,
+     *  in which case the view is not wrapped around anything
+     */
+    public URNView wrap(final byte[] bytes, final int offset,
+        final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes can't be NULL");
+        }
+        Ascii.check(offset, length, bytes.length);
+        return this.point(bytes, null, offset, length);
+    }
+
+    /**
+     * Wrap the view around a range of a buffer.
+     *
+     * <p>The offset is absolute, the position and the limit of the
+     * buffer are neither used nor changed.
+     *
+     * @param buf The buffer
+     * @param offset Position of the first byte of the URN
+     * @param length Number of bytes in the URN
+     * @return This view
+     * @throws IllegalArgumentException If the bytes are not a valid URN,
+     *  in which case the view is not wrapped around anything
+     */
+    public URNView wrap(final ByteBuffer buf, final int offset,
+        final int length) {
+        if (buf == null) {
+            throw new IllegalArgumentException("buffer can't be NULL");
+        }
+        Ascii.check(offset, length, buf.limit());
+        final URNView view;
+        if (buf.hasArray()) {
+            view = this.point(
+                buf.array(), null, buf.arrayOffset() + offset, length
+            );
+        } else {
+            view = this.point(null, buf, offset, length);
+        }
+        return view;
+    }
+
+    /**
+     * Get namespace identifier.
+     *
+     * <p>If the NID is registered, see {@link URN#register(String)}, the
+     * string is the one shared by all URNs with this NID, so nothing is
+     * allocated. Otherwise, a new string is made on every call.
+     *
+     * @return Namespace identifier
+     */
+    public String nid() {
+        return Namespace.nid(this.wrapped(), URNView.START, this.colon);
+    }
+
+    /**
+     * Get the ordinal of namespace identifier, see {@link URN#nidOrdinal()}.
+     * @return The ordinal, or -1 if the NID has none
+     */
+    public int nidOrdinal() {
+        return Namespace.ordinal(this.namespace());
+    }
+
+    /**
+     * Append decoded namespace specific string to the builder.
+     * @param out The builder to append to
+     * @return The same builder
+     * @throws IllegalArgumentException If escapes are not UTF-8
+     * @see URN#nss()
+     */
+    public StringBuilder nss(final StringBuilder out) {
+        return this.decode(this.colon + 1, this.wrapped().length(), out);
+    }
+
+    /**
+     * Has params?
+     * @return TRUE if there is a query
+     */
+    public boolean hasParams() {
+        return this.query < this.wrapped().length();
+    }
+
+    /**
+     * Has this param?
+     * @param name Name of parameter
+     * @return TRUE if it is present
+     */
+    public boolean hasParam(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("param name can't be NULL");
+        }
+        return Query.find(this.wrapped(), this.query, name) >= 0L;
+    }
+
+    /**
+     * Append decoded value of a query param to the builder.
+     * @param name Name of parameter
+     * @param out The builder to append to
+     * @return The same builder
+     * @throws IllegalArgumentException If there is no such param or
+     *  escapes of its value are not UTF-8
+     * @see URN#param(String)
+     */
+    public StringBuilder param(final String name, final StringBuilder out) {
+        if (name == null) {
+            throw new IllegalArgumentException("param name can't be NULL");
+        }
+        final long found = Query.find(this.wrapped(), this.query, name);
+        if (found < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Param '%s' not found in '%s'", name, this)
+            );
+        }
+        return this.decode(Query.start(found), Query.end(found), out);
+    }
+
+    /**
+     * Is it empty?
+     * @return Yes of no
+     */
+    public boolean isEmpty() {
+        final Namespace nid = this.namespace();
+        return nid != null && nid.empty();
+    }
+
+    /**
+     * Characters of the URN, as they are in the bytes.
+     *
+     * <p>The sequence is live: it shows whatever the view is wrapped around
+     * at the moment, and the same object is returned every time.
+     *
+     * @return The characters
+     */
+    public CharSequence text() {
+        return this.wrapped();
+    }
+
+    /**
+     * Number of characters in the URN.
+     * @return The length
+     */
+    public int length() {
+        return this.wrapped().length();
+    }
+
+    /**
+     * Does it match the pattern, see {@link URN#matches(String)}?
+     * @param pattern The pattern to match
+     * @return Yes of no
+     */
+    public boolean matches(final String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern can't be NULL");
+        }
+        final int size = this.wrapped().length();
+        final int length = pattern.length();
+        boolean matches = size == length && this.starts(pattern, length);
+        if (!matches && length > 0 && pattern.charAt(length - 1) == '*') {
+            matches = size >= length - 1 && this.starts(pattern, length - 1);
+        }
+        return matches;
+    }
+
+    /**
+     * Compare with a URN, in the order of {@link URN#compareTo(URN)}.
+     * @param urn The URN to compare with
+     * @return Negative, zero or positive, as usual
+     */
+    public int compareTo(final URN urn) {
+        final CharSequence mine = this.wrapped();
+        final String text = urn.toString();
+        final int common = Math.min(mine.length(), text.length());
+        int diff = 0;
+        for (int idx = 0; diff == 0 && idx < common; ++idx) {
+            diff = mine.charAt(idx) - text.charAt(idx);
+        }
+        if (diff == 0) {
+            diff = mine.length() - text.length();
+        }
+        return diff;
+    }
+
+    /**
+     * Make a URN out of the view, which stays valid after the bytes
+     * change.
+     * @return The URN
+     */
+    public URN toURN() {
+        return new URN(this.wrapped().toString(), this.colon, this.query);
+    }
+
+    @Override
+    public String toString() {
+        return this.chars.toString();
+    }
+
+    /**
+     * Point the view to the bytes and validate them.
+     * @param bytes The array or NULL
+     * @param buf The buffer or NULL
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return This view
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private URNView point(final byte[] bytes, final ByteBuffer buf,
+        final int offset, final int length) {
+        final long parts = Grammar.scan(
+            this.chars.point(bytes, buf, offset, length), 0, length
+        );
+        if (parts < 0L) {
+            final String error = Grammar.invalid(this.chars, parts);
+            this.chars.point(bytes, buf, offset, 0);
+            throw new IllegalArgumentException(error);
+        }
+        this.colon = Grammar.colon(parts);
+        this.query = Grammar.query(parts);
+        return this;
+    }
+
+    /**
+     * The URN starts with these characters of the pattern?
+     * @param pattern The pattern
+     * @param count How many characters of it to compare
+     * @return TRUE if it does
+     */
+    private boolean starts(final String pattern, final int count) {
+        boolean same = true;
+        for (int idx = 0; same && idx < count; ++idx) {
+            same = this.chars.charAt(idx) == pattern.charAt(idx);
+        }
+        return same;
+    }
+
+    /**
+     * Namespace of the URN.
+     * @return The namespace or NULL, if it is not registered
+     */
+    private Namespace namespace() {
+        return Namespace.lookup(this.wrapped(), URNView.START, this.colon);
+    }
+
+    /**
+     * Decode a range to the builder.
+     * @param from Start of the range
+     * @param end End of the range
+     * @param out The builder
+     * @return The same builder
+     */
+    private StringBuilder decode(final int from, final int end,
+        final StringBuilder out) {
+        if (out == null) {
+            throw new IllegalArgumentException("builder can't be NULL");
+        }
+        try {
+            Percent.decode(this.wrapped(), from, end, out);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return out;
+    }
+
+    /**
+     * Characters of the URN the view is wrapped around.
+     * @return The characters
+     * @throws IllegalStateException If it is not wrapped yet
+     */
+    private Ascii wrapped() {
+        if (this.chars.length() == 0) {
+            throw new IllegalStateException("The view is not wrapped yet");
+        }
+        return this.chars;
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Functions of URN texts, which don't need a {@link URN} to be made.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+public final class URNs {
+
+    /**
+     * Prime 1 of xxHash64.
+     */
+    private static final long PRIME1 = 0x9E37_79B1_85EB_CA87L;
+
+    /**
+     * Prime 2 of xxHash64.
+     */
+    private static final long PRIME2 = 0xC2B2_AE3D_27D4_EB4FL;
+
+    /**
+     * Prime 3 of xxHash64.
+     */
+    private static final long PRIME3 = 0x1656_67B1_9E37_79F9L;
+
+    /**
+     * Prime 4 of xxHash64.
+     */
+    private static final long PRIME4 = 0x85EB_CA77_C2B2_AE63L;
+
+    /**
+     * Prime 5 of xxHash64.
+     */
+    private static final long PRIME5 = 0x27D4_EB2F_1656_67C5L;
+
+    /**
+     * Utility class.
+     */
+    private URNs() {
+        // intentionally empty
+    }
+
+    /**
+     * Fingerprint of a text, the same as {@link URN#fingerprint64()} of
+     * the URN made of it.
+     *
+     * <p>It is xxHash64, with seed zero, of the UTF-8 bytes of the text,
+     * which are the same as its characters if it's a valid URN. The
+     * algorithm is fixed and will never change, so fingerprints may be
+     * stored and used as shard keys, or compared with fingerprints made
+     * by other xxHash64 implementations.
+     *
+     * @param text The text, not necessarily a valid URN
+     * @return The fingerprint
+     * @checkstyle MethodNameCheck (3 lines)
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static long fingerprint64(final CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("text can't be NULL");
+        }
+        final long hash;
+        boolean ascii = true;
+        for (int idx = 0; ascii && idx < text.length(); ++idx) {
+            ascii = text.charAt(idx) <= 0x7F;
+        }
+        if (ascii) {
+            hash = URNs.xxhash(text);
+        } else {
+            final byte[] utf = text.toString().getBytes(StandardCharsets.UTF_8);
+            hash = URNs.xxhash(null, utf, 0, utf.length);
+        }
+        return hash;
+    }
+
+    /**
+     * Fingerprint of a range of bytes, the same as
+     * {@link #fingerprint64(CharSequence)} of the text they encode in
+     * UTF-8, and the same as {@link URN#fingerprint64()} if they are an
+     * ASCII URN.
+     * @param bytes The bytes
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return The fingerprint
+     * @checkstyle MethodNameCheck (3 lines)
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static long fingerprint64(final byte[] bytes, final int offset,
+        final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes can't be NULL");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Range of %d bytes at %d is out of array of length %d",
+                    length, offset, bytes.length
+                )
+            );
+        }
+        return URNs.xxhash(null, bytes, offset, length);
+    }
+
+    /**
+     * Sort URNs in place, in the order of {@link URN#compareTo(URN)}, with
+     * a radix sort by eight characters at a time, which is faster than
+     * {@link java.util.Arrays#sort(Object[])} for large arrays of URNs,
+     * especially if they share long prefixes.
+     * @param urns The URNs, no NULLs among them
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void sort(final URN... urns) {
+        if (urns == null) {
+            throw new IllegalArgumentException("URNs can't be NULL");
+        }
+        new Sorter(urns).sort();
+    }
+
+    /**
+     * XxHash64 with seed zero of an ASCII text.
+     * @param text The text
+     * @return The hash
+     */
+    static long xxhash(final CharSequence text) {
+        return URNs.xxhash(text, 0, text.length());
+    }
+
+    /**
+     * XxHash64 with seed zero of a range of an ASCII text.
+     * @param text The text
+     * @param from Position of the first character
+     * @param end Position after the last character
+     * @return The hash
+     */
+    static long xxhash(final CharSequence text, final int from,
+        final int end) {
+        return URNs.xxhash(text, null, from, end - from);
+    }
+
+    /**
+     * XxHash64 with seed zero of an ASCII text or of a range of bytes.
+     * @param text The text, or NULL if the bytes are in the array
+     * @param array The array, or NULL if the bytes are in the text
+     * @param offset Position of the first byte
+     * @param length Number of bytes
+     * @return The hash
+     * @checkstyle ParameterNumberCheck (4 lines)
+     * @checkstyle ExecutableStatementCountCheck (60 lines)
+     */
+    private static long xxhash(final CharSequence text, final byte[] array,
+        final int offset, final int length) {
+        final URNs.Octets bytes = new URNs.Octets(text, array, offset);
+        int pos = 0;
+        long hash;
+        if (length >= 32) {
+            long first = URNs.PRIME1 + URNs.PRIME2;
+            long second = URNs.PRIME2;
+            long third = 0L;
+            long fourth = -URNs.PRIME1;
+            for (; pos <= length - 32; pos += 32) {
+                first = URNs.round(first, bytes.word(pos));
+                second = URNs.round(second, bytes.word(pos + 8));
+                third = URNs.round(third, bytes.word(pos + 16));
+                fourth = URNs.round(fourth, bytes.word(pos + 24));
+            }
+            hash = Long.rotateLeft(first, 1) + Long.rotateLeft(second, 7)
+                + Long.rotateLeft(third, 12) + Long.rotateLeft(fourth, 18);
+            hash = URNs.merge(hash, first);
+            hash = URNs.merge(hash, second);
+            hash = URNs.merge(hash, third);
+            hash = URNs.merge(hash, fourth);
+        } else {
+            hash = URNs.PRIME5;
+        }
+        hash += length;
+        for (; pos <= length - 8; pos += 8) {
+            hash ^= URNs.round(0L, bytes.word(pos));
+            hash = Long.rotateLeft(hash, 27) * URNs.PRIME1 + URNs.PRIME4;
+        }
+        if (pos <= length - 4) {
+            hash ^= bytes.half(pos) * URNs.PRIME1;
+            hash = Long.rotateLeft(hash, 23) * URNs.PRIME2 + URNs.PRIME3;
+            pos += 4;
+        }
+        for (; pos < length; ++pos) {
+            hash ^= bytes.octet(pos) * URNs.PRIME5;
+            hash = Long.rotateLeft(hash, 11) * URNs.PRIME1;
+        }
+        hash ^= hash >>> 33;
+        hash *= URNs.PRIME2;
+        hash ^= hash >>> 29;
+        hash *= URNs.PRIME3;
+        return hash ^ hash >>> 32;
+    }
+
+    /**
+     * One round of xxHash64.
+     * @param acc The accumulator
+     * @param input The input
+     * @return New accumulator
+     */
+    private static long round(final long acc, final long input) {
+        return Long.rotateLeft(acc + input * URNs.PRIME2, 31) * URNs.PRIME1;
+    }
+
+    /**
+     * Merge an accumulator into the hash.
+     * @param hash The hash
+     * @param acc The accumulator
+     * @return New hash
+     */
+    private static long merge(final long hash, final long acc) {
+        return (hash ^ URNs.round(0L, acc)) * URNs.PRIME1 + URNs.PRIME4;
+    }
+
+    /**
+     * Bytes of an ASCII text or of an array.
+     *
+     * @since 1.0
+     */
+    private static final class Octets {
+
+        /**
+         * The text, or NULL if the bytes are in the array.
+         */
+        private final CharSequence text;
+
+        /**
+         * The array, or NULL if the bytes are in the text.
+         */
+        private final byte[] array;
+
+        /**
+         * Position of the first byte.
+         */
+        private final int start;
+
+        /**
+         * Ctor.
+         * @param txt The text or NULL
+         * @param bytes The array or NULL
+         * @param offset Position of the first byte
+         */
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        Octets(final CharSequence txt, final byte[] bytes, final int offset) {
+            this.text = txt;
+            this.array = bytes;
+            this.start = offset;
+        }
+
+        /**
+         * One byte.
+         * @param pos Its position
+         * @return The byte, from 0 to 255
+         */
+        long octet(final int pos) {
+            final long octet;
+            if (this.array == null) {
+                octet = this.text.charAt(this.start + pos) & 0xFF;
+            } else {
+                octet = this.array[this.start + pos] & 0xFF;
+            }
+            return octet;
+        }
+
+        /**
+         * Little-endian word of eight bytes.
+         * @param pos Position of the first byte
+         * @return The word
+         */
+        long word(final int pos) {
+            return this.half(pos) | this.half(pos + 4) << 32;
+        }
+
+        /**
+         * Little-endian word of four bytes.
+         * @param pos Position of the first byte
+         * @return The word
+         */
+        long half(final int pos) {
+            return this.octet(pos) | this.octet(pos + 1) << 8
+                | this.octet(pos + 2) << 16 | this.octet(pos + 3) << 24;
+        }
+    }
+
+}
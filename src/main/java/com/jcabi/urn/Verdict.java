@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import com.jcabi.aspects.Immutable;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Result of URN validation, without exceptions.
+ *
+ * <p>Returned by {@link URN#validate(CharSequence, int, int)}:
+ *
+ * <pre> Verdict verdict = URN.validate("urn:test:a b", 0, 12);
+ * assert verdict.defect() == Verdict.Defect.NSS;
+ * assert verdict.position() == 10;</pre>
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode
+public final class Verdict {
+
+    /**
+     * The verdict for a valid URN.
+     */
+    static final Verdict SOUND = new Verdict(Verdict.Defect.NONE, -1);
+
+    /**
+     * The defect found.
+     */
+    private final Verdict.Defect found;
+
+    /**
+     * Position of the first wrong character.
+     */
+    private final int pos;
+
+    /**
+     * Ctor.
+     * @param defect The defect
+     * @param position Position of the first wrong character
+     */
+    Verdict(final Verdict.Defect defect, final int position) {
+        this.found = defect;
+        this.pos = position;
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.valid()) {
+            text = "valid";
+        } else {
+            text = String.format(
+                "%s at position %d", this.found.reason(), this.pos
+            );
+        }
+        return text;
+    }
+
+    /**
+     * Is it valid?
+     * @return TRUE if the text is a valid URN
+     */
+    public boolean valid() {
+        return this.found == Verdict.Defect.NONE;
+    }
+
+    /**
+     * What is wrong with the text?
+     * @return The defect, {@link Verdict.Defect#NONE} if valid
+     */
+    public Verdict.Defect defect() {
+        return this.found;
+    }
+
+    /**
+     * Position of the first wrong character in the text, or the end of the
+     * range if the text ends prematurely.
+     * @return The position, -1 if valid
+     */
+    public int position() {
+        return this.pos;
+    }
+
+    /**
+     * What can be wrong with a URN.
+     *
+     * @since 1.0
+     */
+    public enum Defect {
+        /**
+         * Nothing is wrong.
+         */
+        NONE("no defect"),
+        /**
+         * Doesn't start with "urn:".
+         */
+        PREFIX("URN must start with 'urn:'"),
+        /**
+         * NID is not 1 to 31 lower case letters followed by a colon.
+         */
+        NID("NID can contain up to 31 low case letters"),
+        /**
+         * NID is "urn".
+         */
+        RESERVED("NID can't be 'urn' according to RFC 2141, section 2.1"),
+        /**
+         * Empty URN with NSS.
+         */
+        EMPTY("Empty URN can't have NSS"),
+        /**
+         * Wrong character or percent-escape in NSS.
+         */
+        NSS("Invalid format of NSS"),
+        /**
+         * Wrong param name, value or separator in the query.
+         */
+        QUERY("Invalid format of query"),
+        /**
+         * Something after the trailing asterisk.
+         */
+        TRAILER("Asterisk can only be the last character"),
+        /**
+         * The text is longer than {@link Limits#LENGTH}.
+         */
+        LENGTH(
+            String.format(
+                "URN can't be longer than %d characters", Limits.LENGTH
+            )
+        ),
+        /**
+         * NSS is longer than {@link Limits#NSS}.
+         */
+        NSS_LENGTH(
+            String.format(
+                "NSS can't be longer than %d characters", Limits.NSS
+            )
+        ),
+        /**
+         * The query has more than {@link Limits#PARAMS} params.
+         */
+        PARAMS(
+            String.format(
+                "Query can't have more than %d params", Limits.PARAMS
+            )
+        );
+
+        /**
+         * Human-readable explanation.
+         */
+        private final String text;
+
+        /**
+         * Ctor.
+         * @param reason Human-readable explanation
+         */
+        Defect(final String reason) {
+            this.text = reason;
+        }
+
+        /**
+         * Human-readable explanation of the defect.
+         * @return The explanation
+         */
+        public String reason() {
+            return this.text;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Ascii}.
+ *
+ * @since 1.0
+ */
+final class AsciiTest {
+
+    /**
+     * Ascii can show bytes of heap and direct buffers as characters.
+     */
+    @Test
+    void showsBytesAsCharacters() {
+        final byte[] bytes = "[urn:a:b]".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        for (final ByteBuffer buffer
+            : new ByteBuffer[] {ByteBuffer.wrap(bytes), direct}) {
+            buffer.position(1).limit(bytes.length - 1);
+            final CharSequence text = Ascii.remaining(buffer);
+            MatcherAssert.assertThat(text.toString(), Matchers.equalTo("urn:a:b"));
+            MatcherAssert.assertThat(text.charAt(4), Matchers.equalTo('a'));
+            MatcherAssert.assertThat(
+                text.subSequence(4, 7).toString(),
+                Matchers.equalTo("a:b")
+            );
+        }
+    }
+
+    /**
+     * Ascii can show high bytes as non-ASCII characters.
+     */
+    @Test
+    void showsHighBytesAsNonAscii() {
+        MatcherAssert.assertThat(
+            Ascii.slice(new byte[] {(byte) 0xE9}, 0, 1).charAt(0),
+            Matchers.equalTo('\u00e9')
+        );
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link CompactURN}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class CompactURNTest {
+
+    /**
+     * CompactURN can keep all parts of a URN.
+     * @param text The text of the URN
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "urn:test:a%20b?x=1&y", "URN:void:", "urn:a:b:c*",
+            "urn:x:%D1%82%D0%B5%D1%81%D1%82"
+        }
+    )
+    void keepsAllParts(final String text) {
+        final URN urn = Composer.trusted(text, true);
+        final CompactURN compact = urn.compact();
+        MatcherAssert.assertThat(compact.toURN(), Matchers.equalTo(urn));
+        MatcherAssert.assertThat(compact.toString(), Matchers.equalTo(text));
+        MatcherAssert.assertThat(compact.nid(), Matchers.equalTo(urn.nid()));
+        MatcherAssert.assertThat(compact.nss(), Matchers.equalTo(urn.nss()));
+        MatcherAssert.assertThat(
+            compact.hasParams(), Matchers.equalTo(urn.hasParams())
+        );
+        MatcherAssert.assertThat(
+            compact.hashCode(), Matchers.equalTo(text.hashCode())
+        );
+        MatcherAssert.assertThat(
+            compact.length(), Matchers.equalTo(text.length())
+        );
+    }
+
+    /**
+     * CompactURN can share registered NIDs with URNs.
+     */
+    @Test
+    void sharesRegisteredNids() {
+        URN.register("compact");
+        final byte[] bytes = "urn:compact:a".getBytes(StandardCharsets.US_ASCII);
+        MatcherAssert.assertThat(
+            CompactURN.parse(bytes, 0, bytes.length).nid(),
+            Matchers.sameInstance(URN.create("urn:compact:b").nid())
+        );
+        MatcherAssert.assertThat(
+            URN.create("urn:compact:c").compact().nid(),
+            Matchers.sameInstance(URN.create("urn:compact:d").nid())
+        );
+    }
+
+    /**
+     * CompactURN can parse bytes from arrays and buffers.
+     */
+    @Test
+    void parsesBytes() {
+        final byte[] bytes = "<urn:test:x?y=1>".getBytes(StandardCharsets.US_ASCII);
+        final CompactURN expected = URN.create("urn:test:x?y=1").compact();
+        MatcherAssert.assertThat(
+            CompactURN.parse(bytes, 1, bytes.length - 2),
+            Matchers.equalTo(expected)
+        );
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(1).limit(bytes.length - 1);
+        MatcherAssert.assertThat(
+            CompactURN.parse(direct),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(direct.position(), Matchers.equalTo(1));
+        final CompactURN parsed = CompactURN.parse(bytes, 1, bytes.length - 2);
+        MatcherAssert.assertThat(parsed.nid(), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(parsed.nss(), Matchers.equalTo("x?y=1"));
+    }
+
+    /**
+     * CompactURN can refuse invalid bytes.
+     */
+    @Test
+    void refusesInvalidBytes() {
+        final byte[] bytes = "urn:test:\u00e9".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CompactURN.parse(bytes, 0, bytes.length)
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> CompactURN.parse(bytes, 1, bytes.length)
+        );
+    }
+
+    /**
+     * CompactURN can be compared, in the same order as URNs.
+     */
+    @Test
+    void comparesLikeUrns() {
+        final URN[] urns = {
+            URN.create("urn:a:b"), URN.create("urn:a:b?c"),
+            URN.create("urn:a:bc"), URN.create("urn:b:"),
+        };
+        for (final URN left : urns) {
+            for (final URN right : urns) {
+                MatcherAssert.assertThat(
+                    Integer.signum(left.compact().compareTo(right.compact())),
+                    Matchers.equalTo(Integer.signum(left.compareTo(right)))
+                );
+                MatcherAssert.assertThat(
+                    left.compact().equals(right.compact()),
+                    Matchers.equalTo(left.equals(right))
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link Grammar}.
+ *
+ * @since 1.0
+ */
+final class GrammarTest {
+
+    /**
+     * The regular expression that was used to validate URNs before.
+     */
+    private static final Pattern REGEX = Pattern.compile(
+        // @checkstyle LineLength (1 line)
+        "^(?i)^urn(?-i):[a-z]{1,31}(:([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)+(\\?\\w+(=([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)?(&\\w+(=([\\-a-zA-Z0-9/]|%[0-9a-fA-F]{2})*)?)*)?\\*?$"
+    );
+
+    /**
+     * Grammar can make the same decisions as the old regular expression.
+     * @param text The text to scan
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "", "u", "urn", "urn:", "urn:a", "urn:a:", "URN:hello:test",
+            "uRn:a:b", "urm:a:b", "urn;a:b", "urn:A:b", "urn:a1:b",
+            "urn:foo:some%20text%20with%20spaces", "urn:a:?alpha=50",
+            "urn:a:?boom", "urn:a:test?123", "urn:a:test?1a2b3c",
+            "urn:a:?alpha=abccde%20%45%4Fme", "urn:a:?alpha=50&beta=u%20",
+            "urn:woquo:ns:pa/procure/BalanceRecord?name=*",
+            "urn:verylongnamespaceid:", "urn:a:?alpha=50*", "urn:a:b/c/d",
+            "urn:abcdefghijklmnopqrstuvwxyzabcde:",
+            "urn:abcdefghijklmnopqrstuvwxyzabcdef:", "urn::", "urn:a:*",
+            "urn:a:**", "urn:a:*b", "urn:a:b?", "urn:a:b?*", "urn:a:b?c&",
+            "urn:a:b?c&&d", "urn:a:b?c=&d=", "urn:a:b?c=d=e", "urn:a:b?c:d",
+            "urn:a:b?_=1", "urn:a:b?c=%", "urn:a:b?c=%1", "urn:a:b?c=%1g",
+            "urn:a:%", "urn:a:%0", "urn:a:%zz", "urn:a:%aF", "urn:a:b:c:d",
+            "urn:a:b\n", "urn:a:b c", "urn:a:\u8514", "urn:a:b?\u00e9",
+            "urn:test:?abc?", "urn:test:?abc=incorrect*value",
+            "urn:a:b?c=d*", "urn:a:b?c*", "urn:a:b?c=d&*",
+            "urn\u001Afoo:bar", "URN\u001Aa:b", "\u0015rn:a:b", "u\u0012n:a:b"
+        }
+    )
+    void makesSameDecisionsAsRegex(final String text) {
+        MatcherAssert.assertThat(
+            text,
+            Grammar.scan(text, 0, text.length()) >= 0L,
+            Matchers.equalTo(GrammarTest.REGEX.matcher(text).matches())
+        );
+    }
+
+    /**
+     * Grammar can make the same decisions as the old regular expression
+     * on random texts.
+     */
+    @Test
+    void makesSameDecisionsOnRandomTexts() {
+        final StringBuilder controls = new StringBuilder(0x20);
+        for (char chr = 0; chr < 0x20; ++chr) {
+            controls.append(chr);
+        }
+        final String alphabet = String.format(
+            "urnURN:abcf09AZ-/_%%?=&*. \u00e9%s", controls
+        );
+        final String[] prefixes = {
+            "", "u", "ur", "urn", "URN", "urn:", "urn:a:", "urn:a:b", "urn:a:b?c",
+        };
+        final Random random = new Random(0L);
+        for (int attempt = 0; attempt < 100_000; ++attempt) {
+            final StringBuilder text = new StringBuilder(
+                prefixes[random.nextInt(prefixes.length)]
+            );
+            final int length = random.nextInt(12);
+            for (int idx = 0; idx < length; ++idx) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            if (text.length() > 0 && random.nextBoolean()) {
+                text.setCharAt(
+                    random.nextInt(text.length()),
+                    alphabet.charAt(random.nextInt(alphabet.length()))
+                );
+            }
+            MatcherAssert.assertThat(
+                text.toString(),
+                Grammar.scan(text, 0, text.length()) >= 0L,
+                Matchers.equalTo(GrammarTest.REGEX.matcher(text).matches())
+            );
+        }
+    }
+
+    /**
+     * Grammar can report the position of the first wrong character.
+     */
+    @Test
+    void reportsPositionOfFailure() {
+        final String text = "urn:test:spaces are not allowed";
+        MatcherAssert.assertThat(
+            Grammar.failure(Grammar.scan(text, 0, text.length())),
+            Matchers.equalTo(text.indexOf(' '))
+        );
+    }
+
+    /**
+     * Grammar can scan a range inside a longer text.
+     */
+    @Test
+    void scansRangeOfText() {
+        final String text = "<urn:a:b?c=d>";
+        final long parts = Grammar.scan(text, 1, text.length() - 1);
+        MatcherAssert.assertThat(parts, Matchers.greaterThanOrEqualTo(0L));
+        MatcherAssert.assertThat(Grammar.colon(parts), Matchers.equalTo(6));
+        MatcherAssert.assertThat(Grammar.query(parts), Matchers.equalTo(8));
+    }
+
+    /**
+     * Grammar can find positions of the parts of a URN.
+     */
+    @Test
+    void findsPositionsOfParts() {
+        final String text = "urn:abc:d:e*";
+        final long parts = Grammar.scan(text, 0, text.length());
+        MatcherAssert.assertThat(Grammar.colon(parts), Matchers.equalTo(7));
+        MatcherAssert.assertThat(
+            Grammar.query(parts),
+            Matchers.equalTo(text.length())
+        );
+    }
+
+    /**
+     * Grammar can reject a text that is too long, without scanning it.
+     */
+    @Test
+    void rejectsTooLongText() {
+        final String text = StringUtils.repeat("x", Limits.LENGTH + 1);
+        final long parts = Grammar.scan(text, 0, text.length());
+        MatcherAssert.assertThat(
+            Grammar.defect(parts),
+            Matchers.equalTo(Verdict.Defect.LENGTH)
+        );
+        MatcherAssert.assertThat(
+            Grammar.failure(parts),
+            Matchers.equalTo(Limits.LENGTH)
+        );
+    }
+
+    /**
+     * Grammar can quote only the beginning of a huge text in errors, in all
+     * parsers.
+     */
+    @Test
+    void quotesBeginningOfHugeText() {
+        final String text = String.format(
+            "urn:a:%s", StringUtils.repeat("x", Limits.LENGTH)
+        );
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        final String expected = String.format(
+            "Invalid URN '%s...' (%d chars): %s",
+            text.substring(0, 64), text.length(),
+            URN.validate(text, 0, text.length())
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> URN.parse(bytes, 0, bytes.length)
+            ).getMessage(),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> CompactURN.parse(bytes, 0, bytes.length)
+            ).getMessage(),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new URNView().wrap(bytes, 0, bytes.length)
+            ).getMessage(),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new URNCache(4).get(text)
+            ).getMessage(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * Grammar can reject NSS that is too long.
+     */
+    @Test
+    void rejectsTooLongNss() {
+        final String text = String.format(
+            "urn:a:%s?b=c", StringUtils.repeat("x", Limits.NSS + 1)
+        );
+        final long parts = Grammar.scan(text, 0, text.length());
+        MatcherAssert.assertThat(
+            Grammar.defect(parts),
+            Matchers.equalTo(Verdict.Defect.NSS_LENGTH)
+        );
+        MatcherAssert.assertThat(
+            Grammar.failure(parts),
+            Matchers.equalTo(Limits.NSS + 6)
+        );
+    }
+
+    /**
+     * Grammar can reject a query with too many params, and accept one with
+     * exactly as many params as allowed.
+     */
+    @Test
+    void rejectsTooManyParams() {
+        final String allowed = String.format(
+            "urn:a:b?%s", StringUtils.repeat("x", "&", Limits.PARAMS)
+        );
+        MatcherAssert.assertThat(
+            Grammar.scan(allowed, 0, allowed.length()),
+            Matchers.greaterThanOrEqualTo(0L)
+        );
+        final String text = String.format("%s&y*", allowed);
+        final long parts = Grammar.scan(text, 0, text.length());
+        MatcherAssert.assertThat(
+            Grammar.defect(parts),
+            Matchers.equalTo(Verdict.Defect.PARAMS)
+        );
+        MatcherAssert.assertThat(
+            Grammar.failure(parts),
+            Matchers.equalTo(allowed.length())
+        );
+    }
+
+    /**
+     * Grammar can find the defect at the very end of long texts that
+     * almost match.
+     * @param unit Repeated part of the text
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {":", "%41", ":a", "a=b&", "-/"})
+    void rejectsAlmostMatchingTexts(final String unit) {
+        final String head = "urn:a:b?";
+        final String body = StringUtils.repeat(
+            unit, (Limits.LENGTH - head.length()) / unit.length() - 1
+        );
+        String text = String.format("urn:a:%s!", body);
+        if (unit.contains("=")) {
+            text = String.format("%s%s!", head, body);
+        }
+        MatcherAssert.assertThat(
+            Grammar.failure(Grammar.scan(text, 0, text.length())),
+            Matchers.equalTo(text.length() - 1)
+        );
+    }
+
+}
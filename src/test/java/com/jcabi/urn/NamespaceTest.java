@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Namespace}.
+ *
+ * @since 1.0
+ */
+final class NamespaceTest {
+
+    /**
+     * Namespace can find the same NID in different texts.
+     */
+    @Test
+    void findsSameNid() {
+        final Namespace nid = Namespace.register("urn:alpha:x", 4, 9);
+        MatcherAssert.assertThat(
+            Namespace.lookup(new StringBuilder("<alpha>"), 1, 6),
+            Matchers.sameInstance(nid)
+        );
+        MatcherAssert.assertThat(nid.toString(), Matchers.equalTo("alpha"));
+        MatcherAssert.assertThat(
+            Namespace.ordinal(nid), Matchers.greaterThan(0)
+        );
+        MatcherAssert.assertThat(nid.empty(), Matchers.is(false));
+    }
+
+    /**
+     * Namespace can give different ordinals to different NIDs.
+     */
+    @Test
+    void givesDifferentOrdinals() {
+        MatcherAssert.assertThat(
+            Namespace.ordinal(Namespace.register("beta", 0, 4)),
+            Matchers.not(
+                Matchers.equalTo(
+                    Namespace.ordinal(Namespace.register("gamma", 0, 5))
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            Namespace.ordinal(Namespace.lookup("void", 0, 4)),
+            Matchers.equalTo(0)
+        );
+        MatcherAssert.assertThat(
+            Namespace.lookup("void", 0, 4).empty(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Namespace can refuse to remember invalid NIDs.
+     */
+    @Test
+    void doesntRememberInvalidNids() {
+        MatcherAssert.assertThat(
+            Namespace.register("Delta", 0, 5),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            Namespace.lookup("Delta", 0, 5),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            Namespace.nid("urn:Delta:x", 4, 9),
+            Matchers.equalTo("Delta")
+        );
+    }
+
+    /**
+     * Namespace can refuse to give ordinals to NIDs that are only parsed,
+     * however many of them there are.
+     */
+    @Test
+    void doesntRegisterParsedNids() {
+        for (int idx = 0; idx < Limits.NIDS * 2; ++idx) {
+            final StringBuilder nid = new StringBuilder("junk");
+            for (int num = idx; num > 0; num /= 26) {
+                nid.append((char) ('a' + num % 26));
+            }
+            MatcherAssert.assertThat(
+                URN.create(String.format("urn:%s:x", nid)).nidOrdinal(),
+                Matchers.equalTo(-1)
+            );
+        }
+        MatcherAssert.assertThat(
+            new URN("omega", "x").nidOrdinal(),
+            Matchers.greaterThanOrEqualTo(0)
+        );
+        MatcherAssert.assertThat(
+            Namespace.lookup("zeta", 0, 4),
+            Matchers.nullValue()
+        );
+        final Namespace registered = Namespace.register("zeta", 0, 4);
+        MatcherAssert.assertThat(
+            Namespace.ordinal(registered), Matchers.greaterThanOrEqualTo(0)
+        );
+        MatcherAssert.assertThat(
+            Namespace.lookup("urn:zeta:", 4, 8),
+            Matchers.sameInstance(registered)
+        );
+    }
+
+    /**
+     * Namespace can refuse to give ordinals to NIDs of parsed URNs, which
+     * are made again with new params, however many of them there are.
+     */
+    @Test
+    void doesntRegisterNidsOfRebuiltUrns() {
+        for (int idx = 0; idx < Limits.NIDS + 100; ++idx) {
+            final StringBuilder nid = new StringBuilder("spam");
+            for (int num = idx; num > 0; num /= 26) {
+                nid.append((char) ('a' + num % 26));
+            }
+            final URN parsed = URN.create(String.format("urn:%s:x", nid));
+            MatcherAssert.assertThat(
+                parsed.param("a", idx).nidOrdinal(),
+                Matchers.equalTo(-1)
+            );
+            MatcherAssert.assertThat(
+                new URN.Builder(parsed).withNss("y").build().nidOrdinal(),
+                Matchers.equalTo(-1)
+            );
+        }
+        MatcherAssert.assertThat(
+            URN.register("sigma"), Matchers.greaterThan(0)
+        );
+    }
+
+    /**
+     * Namespace can be taken from the text of a URN made by code, not from
+     * the argument.
+     */
+    @Test
+    void takesNidFromMadeText() {
+        final URN made = new URN("kappa:iota", "x");
+        final URN parsed = URN.create("urn:kappa:iota:x");
+        MatcherAssert.assertThat(made, Matchers.equalTo(parsed));
+        MatcherAssert.assertThat(made.nid(), Matchers.equalTo("kappa"));
+        MatcherAssert.assertThat(parsed.nid(), Matchers.equalTo("kappa"));
+        MatcherAssert.assertThat(
+            made.nidOrdinal(),
+            Matchers.allOf(
+                Matchers.equalTo(parsed.nidOrdinal()),
+                Matchers.greaterThan(0)
+            )
+        );
+    }
+
+    /**
+     * Namespace can be registered explicitly.
+     */
+    @Test
+    void registersNids() {
+        final int ordinal = URN.register("lambda");
+        MatcherAssert.assertThat(ordinal, Matchers.greaterThan(0));
+        MatcherAssert.assertThat(
+            URN.register("lambda"), Matchers.equalTo(ordinal)
+        );
+        MatcherAssert.assertThat(
+            URN.create("urn:lambda:x").nidOrdinal(),
+            Matchers.equalTo(ordinal)
+        );
+        MatcherAssert.assertThat(
+            URN.create("urn:lambda:x").nid(),
+            Matchers.sameInstance(URN.create("urn:lambda:y").nid())
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URN.register("Not-A-Nid")
+        );
+    }
+
+    /**
+     * Namespace can give the same NID to all threads.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void findsSameNidInManyThreads() throws Exception {
+        final int threads = 8;
+        final Collection<Callable<Namespace>> tasks = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            tasks.add(() -> Namespace.register("epsilon", 0, 7));
+        }
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Namespace>> results = service.invokeAll(tasks);
+            for (final Future<Namespace> result : results) {
+                MatcherAssert.assertThat(
+                    result.get(),
+                    Matchers.sameInstance(results.get(0).get())
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link Percent}.
+ *
+ * @since 1.0
+ */
+final class PercentTest {
+
+    /**
+     * Percent can return the same text if nothing has to be encoded.
+     */
+    @Test
+    void returnsSameTextWhenNothingToEncode() {
+        final String text = "order/2024-10/ABC";
+        MatcherAssert.assertThat(
+            Percent.encode(text),
+            Matchers.sameInstance(text)
+        );
+    }
+
+    /**
+     * Percent can encode bytes below 0x10 with two digits.
+     */
+    @Test
+    void encodesSmallBytesWithTwoDigits() {
+        MatcherAssert.assertThat(
+            Percent.encode("a\nb\tc"),
+            Matchers.equalTo("a%0Ab%09c")
+        );
+    }
+
+    /**
+     * Percent can encode all kinds of characters like UTF-8 bytes do.
+     */
+    @Test
+    void encodesLikeUtfBytes() {
+        final Random random = new Random(0L);
+        final char[] samples = {
+            'a', 'Z', '5', '-', '/', ' ', '%', '*', '\u00e9', '\u0433',
+            '\u8514', '\ud83d', '\ude00', '\u0000', '\u007f', '\u0800',
+        };
+        for (int attempt = 0; attempt < 10_000; ++attempt) {
+            final StringBuilder text = new StringBuilder();
+            final int length = random.nextInt(8);
+            for (int idx = 0; idx < length; ++idx) {
+                text.append(samples[random.nextInt(samples.length)]);
+            }
+            MatcherAssert.assertThat(
+                Percent.encode(text.toString()),
+                Matchers.equalTo(PercentTest.reference(text.toString()))
+            );
+        }
+    }
+
+    /**
+     * Percent can return the range as is, if nothing has to be decoded.
+     */
+    @Test
+    void returnsSameTextWhenNothingToDecode() {
+        final String text = "a/b-c+d";
+        MatcherAssert.assertThat(
+            Percent.decode(text, 0, text.length()),
+            Matchers.sameInstance(text)
+        );
+        MatcherAssert.assertThat(
+            Percent.decode("x%20y", 2, 5),
+            Matchers.equalTo("20y")
+        );
+    }
+
+    /**
+     * Percent can decode what it encodes.
+     */
+    @Test
+    void decodesWhatItEncodes() {
+        final String text = "\u8514 caf\u00e9 \ud83d\ude00 %40+/";
+        final String encoded = String.format("x%sx", Percent.encode(text));
+        MatcherAssert.assertThat(
+            Percent.decode(encoded, 1, encoded.length() - 1),
+            Matchers.equalTo(text)
+        );
+    }
+
+    /**
+     * Percent can reject malformed UTF-8 sequences.
+     * @param text Malformed text
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "%FF", "%80", "%C0%80", "%E0%80%80", "%ED%A0%80", "%F4%90%80%80",
+            "%E8%94", "%E8%41%94", "%E8%94x", "%E8%94%", "%2"
+        }
+    )
+    void rejectsMalformedSequences(final String text) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Percent.decode(text, 0, text.length())
+        );
+    }
+
+    /**
+     * Percent can quote only the beginning of a long malformed text.
+     */
+    @Test
+    void quotesBeginningOfLongText() {
+        final String text = String.format(
+            "%s%%FF", StringUtils.repeat("a", 10_000)
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Percent.decode(text, 0, text.length())
+            ).getMessage(),
+            Matchers.endsWith("...' (10003 chars)")
+        );
+    }
+
+    /**
+     * Percent can take only ASCII hexadecimal digits, of any case.
+     */
+    @Test
+    void takesOnlyAsciiDigits() {
+        MatcherAssert.assertThat(
+            Percent.decode("%2a%2A", 0, 6), Matchers.equalTo("**")
+        );
+        for (final String text : new String[] {
+            "%\u0661\u0662", "%\uFF11\uFF12", "%4\uFF21", "%\u0966A",
+        }) {
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Percent.decode(text, 0, text.length()),
+                text
+            );
+        }
+    }
+
+    /**
+     * Encode the text byte by byte, the simplest possible way.
+     * @param text The text
+     * @return Encoded text
+     */
+    private static String reference(final String text) {
+        final StringBuilder out = new StringBuilder();
+        for (final byte octet : text.getBytes(StandardCharsets.UTF_8)) {
+            if (Grammar.safe((char) octet)) {
+                out.append((char) octet);
+            } else {
+                out.append(String.format("%%%02X", octet & 0xFF));
+            }
+        }
+        return out.toString();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link Query}.
+ *
+ * @since 1.0
+ */
+final class QueryTest {
+
+    /**
+     * Query can find the last value of a param.
+     */
+    @Test
+    void findsLastValueOfParam() {
+        final String text = "urn:test:x?ab=1&a=22&a=333&b";
+        final long found = Query.find(text, text.indexOf('?'), "a");
+        MatcherAssert.assertThat(
+            text.substring(Query.start(found), Query.end(found)),
+            Matchers.equalTo("333")
+        );
+    }
+
+    /**
+     * Query can find a param without a value.
+     */
+    @Test
+    void findsParamWithoutValue() {
+        final String text = "urn:test:x?ab=1&b";
+        final long found = Query.find(text, text.indexOf('?'), "b");
+        MatcherAssert.assertThat(
+            Query.start(found),
+            Matchers.equalTo(Query.end(found))
+        );
+    }
+
+    /**
+     * Query can report an absent param.
+     */
+    @Test
+    void reportsAbsentParam() {
+        final String text = "urn:test:x?ab=1";
+        MatcherAssert.assertThat(
+            Query.find(text, text.indexOf('?'), "a"),
+            Matchers.lessThan(0L)
+        );
+        MatcherAssert.assertThat(
+            Query.find(text, text.indexOf('?'), "ab=1"),
+            Matchers.lessThan(0L)
+        );
+        MatcherAssert.assertThat(
+            Query.find("urn:test:ab", 11, "ab"),
+            Matchers.lessThan(0L)
+        );
+    }
+
+    /**
+     * Query can parse numbers like {@link Long#parseLong(String)} does.
+     * @param text The number
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "0", "-0", "7", "-42", "007", "9223372036854775807",
+            "-9223372036854775808"
+        }
+    )
+    void parsesNumbers(final String text) {
+        MatcherAssert.assertThat(
+            Query.number(text, 0, text.length()),
+            Matchers.equalTo(Long.parseLong(text))
+        );
+    }
+
+    /**
+     * Query can reject wrong numbers.
+     * @param text The number
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "", "-", "1-", "--1", "a", "1a", "9223372036854775808",
+            "-9223372036854775809", "99999999999999999999"
+        }
+    )
+    void rejectsWrongNumbers(final String text) {
+        Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> Query.number(text, 0, text.length())
+        );
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Radix}.
+ *
+ * @since 1.0
+ */
+final class RadixTest {
+
+    /**
+     * Radix can keep the same values as a map, through random changes.
+     */
+    @Test
+    void agreesWithMap() {
+        final Random random = new Random(0L);
+        final Map<String, Integer> map = new TreeMap<>();
+        Radix<Integer> tree = new Radix<>();
+        for (int step = 0; step < 5000; ++step) {
+            final String key = RadixTest.word(random);
+            if (random.nextBoolean()) {
+                final Integer val = step;
+                map.put(key, val);
+                tree = tree.update(key, old -> val);
+            } else {
+                map.remove(key);
+                tree = tree.update(key, old -> null);
+            }
+            final String probe = RadixTest.word(random);
+            MatcherAssert.assertThat(
+                probe, tree.get(probe), Matchers.equalTo(map.get(probe))
+            );
+        }
+        for (final Map.Entry<String, Integer> entry : map.entrySet()) {
+            MatcherAssert.assertThat(
+                tree.get(entry.getKey()), Matchers.equalTo(entry.getValue())
+            );
+        }
+        for (final String key : map.keySet().toArray(new String[0])) {
+            tree = tree.update(key, old -> null);
+        }
+        MatcherAssert.assertThat(tree.isEmpty(), Matchers.is(true));
+    }
+
+    /**
+     * Radix can leave old trees as they are.
+     */
+    @Test
+    void keepsOldTrees() {
+        final String key = "urn:a:b";
+        final Radix<String> first = new Radix<String>()
+            .update(key, old -> "b");
+        final Radix<String> second = first.update("urn:a:bc", old -> "bc")
+            .update(key, old -> null);
+        MatcherAssert.assertThat(first.get(key), Matchers.equalTo("b"));
+        MatcherAssert.assertThat(first.get("urn:a:bc"), Matchers.nullValue());
+        MatcherAssert.assertThat(second.get(key), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            second.get("urn:a:bc"), Matchers.equalTo("bc")
+        );
+        MatcherAssert.assertThat(
+            second.update("urn:a:x", old -> null),
+            Matchers.sameInstance(second)
+        );
+    }
+
+    /**
+     * Radix can visit values of all prefixes of a key.
+     */
+    @Test
+    void walksPrefixes() {
+        final String[] keys = {
+            "", "urn:", "urn:a", "urn:b", "urn:a:b", "urn:a:bc",
+        };
+        Radix<String> tree = new Radix<>();
+        for (final String key : keys) {
+            tree = tree.update(key, old -> key);
+        }
+        final List<String> visited = new ArrayList<>(0);
+        tree.walk("urn:a:b", (val, whole) -> visited.add(val + whole));
+        MatcherAssert.assertThat(
+            visited,
+            Matchers.contains("false", "urn:false", "urn:afalse", "urn:a:btrue")
+        );
+    }
+
+    /**
+     * Make a random short word of few letters, to make many common
+     * prefixes.
+     * @param random Source of randomness
+     * @return The word
+     */
+    private static String word(final Random random) {
+        final char[] chars = new char[random.nextInt(6)];
+        for (int idx = 0; idx < chars.length; ++idx) {
+            chars[idx] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.Random;
+
+/**
+ * Random URNs for tests that compare a structure of URNs with a plain
+ * model, like a sorted array or {@link URN#matches(String)}.
+ *
+ * <p>The URNs are made of few pieces of the given alphabet, so that they
+ * often share prefixes and are often equal. The case of "urn" varies,
+ * NID is "a" or "b", and every fourth URN has a query.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class RandomURNs {
+
+    /**
+     * Source of randomness.
+     */
+    private final Random random;
+
+    /**
+     * Pieces of NSS.
+     */
+    private final String[] pieces;
+
+    /**
+     * Ctor.
+     * @param seed Seed of randomness, to get the same URNs every time
+     * @param parts Pieces of NSS, after its first letter
+     */
+    RandomURNs(final long seed, final String... parts) {
+        this.random = new Random(seed);
+        this.pieces = parts.clone();
+    }
+
+    /**
+     * Make the next URN.
+     * @return The URN
+     */
+    URN next() {
+        return URN.create(this.text());
+    }
+
+    /**
+     * Make the text of the next URN.
+     * @return The text
+     */
+    String text() {
+        final StringBuilder text = new StringBuilder(0);
+        for (final char chr : "urn".toCharArray()) {
+            if (this.random.nextInt(4) == 0) {
+                text.append(Character.toUpperCase(chr));
+            } else {
+                text.append(chr);
+            }
+        }
+        text.append(
+            String.format(
+                ":%c:%c", "ab".charAt(this.random.nextInt(2)),
+                "ab".charAt(this.random.nextInt(2))
+            )
+        );
+        final int length = this.random.nextInt(6);
+        for (int idx = 0; idx < length; ++idx) {
+            text.append(this.pieces[this.random.nextInt(this.pieces.length)]);
+        }
+        if (this.random.nextInt(4) == 0) {
+            text.append("?x=").append(this.random.nextInt(3));
+        }
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Sortable}.
+ *
+ * @since 1.0
+ */
+final class SortableTest {
+
+    /**
+     * Sortable can make keys in the same order as URNs.
+     */
+    @Test
+    void keepsOrder() {
+        final RandomURNs random = new RandomURNs(
+            0L, "a", "Z", "0", ":", "-", "/", "%25"
+        );
+        final URN[] urns = new URN[2000];
+        for (int idx = 0; idx < urns.length; ++idx) {
+            urns[idx] = random.next();
+        }
+        final URN[] keyed = urns.clone();
+        Arrays.sort(urns);
+        Arrays.sort(
+            keyed,
+            (left, right) -> Sortable.compare(
+                left.toSortableBytes(), right.toSortableBytes()
+            )
+        );
+        MatcherAssert.assertThat(keyed, Matchers.equalTo(urns));
+    }
+
+    /**
+     * Sortable can restore URNs from keys.
+     */
+    @Test
+    void restoresUrns() {
+        final RandomURNs random = new RandomURNs(
+            1L, "a", "Z", "0", ":", "-", "/", "%25"
+        );
+        for (int idx = 0; idx < 200; ++idx) {
+            final URN urn = random.next();
+            final byte[] key = urn.toSortableBytes();
+            MatcherAssert.assertThat(
+                key.length, Matchers.equalTo(urn.toString().length() - 3)
+            );
+            MatcherAssert.assertThat(
+                URN.fromSortableBytes(key), Matchers.equalTo(urn)
+            );
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URN.fromSortableBytes(new byte[] {8, 'a', ':', 'b'})
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URN.fromSortableBytes(new byte[] {7, 'a', ' ', 'b'})
+        );
+    }
+
+    /**
+     * Sortable can make distinct keys of distinct URNs.
+     */
+    @Test
+    void makesDistinctKeys() {
+        final RandomURNs random = new RandomURNs(
+            2L, "a", "Z", "0", ":", "-", "/", "%25"
+        );
+        final Map<String, URN> keys = new HashMap<>(0);
+        for (int idx = 0; idx < 5000; ++idx) {
+            final URN urn = random.next();
+            final URN before = keys.put(
+                new String(urn.toSortableBytes(), StandardCharsets.ISO_8859_1),
+                urn
+            );
+            MatcherAssert.assertThat(
+                urn.toString(),
+                before == null || before.equals(urn)
+            );
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URN.create("urn\u001Afoo:bar").toSortableBytes()
+        );
+    }
+
+}
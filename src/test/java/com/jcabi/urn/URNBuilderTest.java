@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link URN.Builder}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNBuilderTest {
+
+    /**
+     * URN.Builder can build a URN from parts.
+     */
+    @Test
+    void buildsFromParts() {
+        final Map<String, Object> params = new HashMap<>(0);
+        params.put("b", "x y");
+        params.put("a", 1);
+        params.put("c", "");
+        final URN urn = new URN.Builder("order")
+            .withNss("2024", "A:17")
+            .withParams(params)
+            .withParam("z", true)
+            .withoutParam("b")
+            .build();
+        MatcherAssert.assertThat(
+            urn.toString(),
+            Matchers.equalTo("urn:order:2024:A%3A17?a=1&c&z=true")
+        );
+        MatcherAssert.assertThat(
+            urn,
+            Matchers.equalTo(URN.create(urn.toString()))
+        );
+        MatcherAssert.assertThat(urn.param("z"), Matchers.equalTo("true"));
+    }
+
+    /**
+     * URN.Builder can refuse to remove a NULL param.
+     */
+    @Test
+    void refusesToRemoveNullParam() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new URN.Builder("test").withoutParam(null)
+            ).getMessage(),
+            Matchers.equalTo("param name can't be NULL")
+        );
+    }
+
+    /**
+     * URN.Builder can start from another URN.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void buildsFromAnotherUrn() throws Exception {
+        final URN urn = new URN.Builder(new URN("urn:test:a%20b?x=%2F"))
+            .withParam("y", "\u8514")
+            .build();
+        MatcherAssert.assertThat(
+            urn.toString(),
+            Matchers.equalTo("urn:test:a%20b?x=/&y=%E8%94%94")
+        );
+        MatcherAssert.assertThat(urn.nid(), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(urn.hasParams(), Matchers.is(true));
+    }
+
+    /**
+     * URN.Builder can keep the asterisk after params of the URN.
+     */
+    @Test
+    void keepsAsteriskAfterParams() {
+        final URN urn = URN.create("urn:a:b?x*");
+        MatcherAssert.assertThat(
+            urn.param("x", "9").toString(),
+            Matchers.equalTo("urn:a:b?x=9*")
+        );
+        MatcherAssert.assertThat(
+            urn.param("y", "1").toString(),
+            Matchers.equalTo("urn:a:b?x&y=1*")
+        );
+        MatcherAssert.assertThat(
+            new URN.Builder(urn).withoutParam("x").build().toString(),
+            Matchers.equalTo("urn:a:b*")
+        );
+        MatcherAssert.assertThat(
+            new URN.Builder(urn).build(),
+            Matchers.equalTo(urn)
+        );
+    }
+
+    /**
+     * URN.Builder can refuse to build from wrong parts.
+     * @param nid The NID
+     * @param nss The NSS
+     * @param param Param name
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @ParameterizedTest
+    @CsvSource(
+        {
+            "Order,x,a", "urn,x,a", "a:b,x,a", "'',x,a", "void,x,a",
+            "void,'',a", "order,x,a-b", "order,x,''"
+        }
+    )
+    void refusesToBuildFromWrongParts(final String nid, final String nss,
+        final String param) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new URN.Builder(nid).withNss(nss).withParam(param, 1).build()
+        );
+    }
+
+}
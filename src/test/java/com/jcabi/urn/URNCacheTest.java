@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link URNCache}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNCacheTest {
+
+    /**
+     * URNCache can return the same URN for the same text.
+     */
+    @Test
+    void returnsCachedUrns() {
+        final URNCache cache = new URNCache(16);
+        final String text = "urn:test:cached?a=1";
+        final URN urn = cache.get(text);
+        MatcherAssert.assertThat(urn, Matchers.equalTo(URN.create(text)));
+        MatcherAssert.assertThat(urn.param("a"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(cache.get(text), Matchers.sameInstance(urn));
+        MatcherAssert.assertThat(cache.hits(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(cache.misses(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(cache.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(cache.hitRate(), Matchers.closeTo(0.5, 0.0));
+    }
+
+    /**
+     * URNCache can remember that a text is not valid.
+     */
+    @Test
+    void cachesInvalidTexts() {
+        final URNCache cache = new URNCache(16);
+        final String text = "urn:test:a b";
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                Assertions.assertThrows(
+                    IllegalArgumentException.class,
+                    () -> cache.get(text)
+                ).getMessage(),
+                Matchers.equalTo(
+                    String.format(
+                        "Invalid URN '%s': %s", text,
+                        URN.validate(text, 0, text.length())
+                    )
+                )
+            );
+        }
+        MatcherAssert.assertThat(cache.hits(), Matchers.equalTo(1L));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> cache.get(null)
+        );
+    }
+
+    /**
+     * URNCache can keep no more texts than its capacity.
+     */
+    @Test
+    void staysBounded() {
+        final URNCache cache = new URNCache(50);
+        MatcherAssert.assertThat(cache.capacity(), Matchers.equalTo(64));
+        for (int idx = 0; idx < 10_000; ++idx) {
+            cache.get(String.format("urn:test:%d", idx % 1000));
+        }
+        MatcherAssert.assertThat(
+            cache.size(), Matchers.lessThanOrEqualTo(cache.capacity())
+        );
+        MatcherAssert.assertThat(
+            cache.evictions(), Matchers.greaterThan(0L)
+        );
+        MatcherAssert.assertThat(
+            cache.toString(), Matchers.startsWith(
+                String.format("%d of 64 texts", cache.size())
+            )
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new URNCache(0)
+        );
+    }
+
+    /**
+     * URNCache can keep frequent texts while many rare ones pass by.
+     */
+    @Test
+    void resistsScans() {
+        final URNCache cache = new URNCache(64);
+        final Collection<String> hot = new ArrayList<>(16);
+        for (int idx = 0; idx < 16; ++idx) {
+            hot.add(String.format("urn:test:hot:%d", idx));
+        }
+        for (int round = 0; round < 20; ++round) {
+            hot.forEach(cache::get);
+        }
+        for (int idx = 0; idx < 500; ++idx) {
+            cache.get(String.format("urn:test:cold:%d", idx));
+        }
+        final long before = cache.hits();
+        hot.forEach(cache::get);
+        MatcherAssert.assertThat(
+            cache.hits() - before, Matchers.equalTo((long) hot.size())
+        );
+    }
+
+    /**
+     * URNCache can be used by many threads at once.
+     * @throws Exception If fails
+     */
+    @Test
+    void worksInManyThreads() throws Exception {
+        final URNCache cache = new URNCache(128);
+        final ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            final Collection<Future<Integer>> futures = new ArrayList<>(4);
+            for (int thread = 0; thread < 4; ++thread) {
+                final Random random = new Random(thread);
+                futures.add(
+                    service.submit(
+                        () -> {
+                            int wrong = 0;
+                            for (int idx = 0; idx < 20_000; ++idx) {
+                                final String text = String.format(
+                                    "urn:test:%d", random.nextInt(300)
+                                );
+                                if (!cache.get(text).toString().equals(text)) {
+                                    ++wrong;
+                                }
+                            }
+                            return wrong;
+                        }
+                    )
+                );
+            }
+            for (final Future<Integer> future : futures) {
+                MatcherAssert.assertThat(future.get(), Matchers.equalTo(0));
+            }
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(
+            cache.hits() + cache.misses(), Matchers.equalTo(80_000L)
+        );
+        MatcherAssert.assertThat(
+            cache.size(), Matchers.lessThanOrEqualTo(cache.capacity())
+        );
+    }
+
+    /**
+     * URN can parse texts through the global cache.
+     */
+    @Test
+    void parsesThroughGlobalCache() {
+        final String text = "urn:test:global";
+        final long before = URNCache.global().hits()
+            + URNCache.global().misses();
+        MatcherAssert.assertThat(
+            URN.cached(text), Matchers.equalTo(URN.create(text))
+        );
+        MatcherAssert.assertThat(
+            URNCache.global().hits() + URNCache.global().misses(),
+            Matchers.greaterThan(before)
+        );
+    }
+}
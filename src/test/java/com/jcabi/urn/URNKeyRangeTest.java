@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link URNKeyRange}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNKeyRangeTest {
+
+    /**
+     * URNKeyRange can contain keys of exactly the URNs that match the
+     * pattern.
+     * @param pattern The pattern
+     */
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "*", "u*", "U*", "uR*", "urn*", "urn:*", "URN:*", "urn:a*",
+            "urn:a:*", "urn:a:b", "urn:a:b*", "urn:a:b?x=1", "urn:b:a-*",
+            "urn:b:", "x*", "urn:a:\u00e9*", "ur", "urn:a:zzz*"
+        }
+    )
+    void agreesWithMatches(final String pattern) {
+        final URNKeyRange range = URNKeyRange.matching(pattern);
+        final RandomURNs random = new RandomURNs(0L, "a", "b", "-", ":");
+        for (int idx = 0; idx < 3000; ++idx) {
+            final URN urn = random.next();
+            MatcherAssert.assertThat(
+                String.format("%s in %s", urn, range),
+                range.contains(urn.toSortableBytes()),
+                Matchers.equalTo(urn.matches(pattern))
+            );
+        }
+    }
+
+    /**
+     * URNKeyRange can tell that it is empty.
+     */
+    @Test
+    void knowsWhenEmpty() {
+        MatcherAssert.assertThat(
+            URNKeyRange.matching("x*").isEmpty(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            URNKeyRange.matching("urn:test:x").isEmpty(), Matchers.is(false)
+        );
+        final URNKeyRange range = URNKeyRange.matching("urn:test*");
+        MatcherAssert.assertThat(
+            range.low(),
+            Matchers.equalTo(new byte[] {7, 't', 'e', 's', 't'})
+        );
+        MatcherAssert.assertThat(
+            range.high(),
+            Matchers.equalTo(new byte[] {7, 't', 'e', 's', 'u'})
+        );
+        MatcherAssert.assertThat(
+            range.toString(), Matchers.equalTo("[0774657374, 0774657375)")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URNKeyRange.matching(null)
+        );
+    }
+
+}
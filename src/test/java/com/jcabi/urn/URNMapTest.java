@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link URNMap}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNMapTest {
+
+    /**
+     * URNMap can keep entries in the order of a TreeMap of URNs.
+     */
+    @Test
+    void agreesWithTreeMap() {
+        final RandomURNs source = new RandomURNs(0L, "a", "b", ":");
+        final Random random = new Random(0L);
+        final Map<URN, Integer> expected = new TreeMap<>();
+        final URNMap<Integer> map = new URNMap<>();
+        for (int idx = 0; idx < 2000; ++idx) {
+            final URN urn = source.next();
+            if (random.nextInt(4) == 0) {
+                MatcherAssert.assertThat(
+                    map.remove(urn), Matchers.equalTo(expected.remove(urn))
+                );
+            } else {
+                MatcherAssert.assertThat(
+                    map.put(urn, idx), Matchers.equalTo(expected.put(urn, idx))
+                );
+            }
+        }
+        MatcherAssert.assertThat(map.size(), Matchers.equalTo(expected.size()));
+        final List<Map.Entry<URN, Integer>> entries = new ArrayList<>(0);
+        map.forEach(entries::add);
+        MatcherAssert.assertThat(
+            entries, Matchers.contains(expected.entrySet().toArray())
+        );
+    }
+
+    /**
+     * URNMap can find entries that match patterns, as URN.matches() does.
+     */
+    @Test
+    void findsMatching() {
+        final RandomURNs source = new RandomURNs(1L, "a", "b", ":");
+        final Random random = new Random(1L);
+        final URNMap<Boolean> map = new URNMap<>();
+        final Collection<URN> urns = new TreeSet<>();
+        for (int idx = 0; idx < 300; ++idx) {
+            final URN urn = source.next();
+            map.put(urn, true);
+            urns.add(urn);
+        }
+        for (int idx = 0; idx < 200; ++idx) {
+            String pattern = source.text();
+            if (idx % 2 == 0) {
+                pattern = pattern.substring(
+                    0, random.nextInt(pattern.length() + 1)
+                ).concat("*");
+            }
+            final List<URN> expected = new ArrayList<>(0);
+            for (final URN urn : urns) {
+                if (urn.matches(pattern)) {
+                    expected.add(urn);
+                }
+            }
+            final List<URN> found = new ArrayList<>(0);
+            map.matching(pattern).forEach(entry -> found.add(entry.getKey()));
+            MatcherAssert.assertThat(pattern, found, Matchers.equalTo(expected));
+        }
+    }
+
+    /**
+     * URNMap can take changes from many threads at once.
+     * @throws Exception If fails
+     */
+    @Test
+    void takesConcurrentChanges() throws Exception {
+        final URNMap<Integer> map = new URNMap<>();
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; ++thread) {
+            final int first = thread * 500;
+            threads.submit(
+                () -> {
+                    for (int idx = first; idx < first + 500; ++idx) {
+                        map.put(URN.create(String.format("urn:n:%d", idx)), idx);
+                        map.putIfAbsent(URN.create("urn:n:shared"), idx);
+                    }
+                }
+            );
+        }
+        threads.shutdown();
+        MatcherAssert.assertThat(
+            threads.awaitTermination(1L, TimeUnit.MINUTES), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(map.size(), Matchers.equalTo(2001));
+        MatcherAssert.assertThat(
+            map.get(URN.create("urn:n:1234")), Matchers.equalTo(1234)
+        );
+    }
+
+}
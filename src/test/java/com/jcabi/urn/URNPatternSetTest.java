@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link URNPatternSet}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNPatternSetTest {
+
+    /**
+     * URNPatternSet can find the same rules as URN.matches() does.
+     */
+    @Test
+    void agreesWithMatches() {
+        final RandomURNs urns = new RandomURNs(0L, "a", "b", ":");
+        final Random random = new Random(0L);
+        final Map<String, Integer> patterns = new HashMap<>(0);
+        final URNPatternSet<Integer> set = new URNPatternSet<>();
+        for (int idx = 0; idx < 300; ++idx) {
+            String pattern = urns.text();
+            if (random.nextBoolean()) {
+                pattern = pattern.substring(
+                    0, random.nextInt(pattern.length() + 1)
+                ).concat("*");
+            }
+            if (!patterns.containsKey(pattern)) {
+                patterns.put(pattern, idx);
+                set.add(pattern, idx);
+            }
+        }
+        for (int idx = 0; idx < 1000; ++idx) {
+            final URN urn = urns.next();
+            final List<Integer> expected = new ArrayList<>(0);
+            for (final Map.Entry<String, Integer> entry : patterns.entrySet()) {
+                if (urn.matches(entry.getKey())) {
+                    expected.add(entry.getValue());
+                }
+            }
+            final List<Integer> found = set.rules(urn.toString());
+            MatcherAssert.assertThat(
+                urn.toString(),
+                found,
+                Matchers.containsInAnyOrder(expected.toArray())
+            );
+            if (found.isEmpty()) {
+                MatcherAssert.assertThat(
+                    set.best(urn.toString()), Matchers.equalTo(Optional.empty())
+                );
+            } else {
+                MatcherAssert.assertThat(
+                    set.best(urn.toString()).get(),
+                    Matchers.equalTo(found.get(found.size() - 1))
+                );
+            }
+        }
+    }
+
+    /**
+     * URNPatternSet can prefer the most specific pattern.
+     */
+    @Test
+    void prefersMostSpecific() {
+        final URNPatternSet<String> set = new URNPatternSet<>();
+        set.add("*", "all");
+        set.add("urn:order:*", "orders");
+        set.add("urn:order:42", "owner");
+        set.add("urn:order:42*", "order");
+        MatcherAssert.assertThat(
+            set.best("urn:order:42").get(), Matchers.equalTo("owner")
+        );
+        MatcherAssert.assertThat(
+            set.best("urn:order:42:items").get(), Matchers.equalTo("order")
+        );
+        MatcherAssert.assertThat(
+            set.best("urn:order:7").get(), Matchers.equalTo("orders")
+        );
+        MatcherAssert.assertThat(
+            set.rules("urn:order:42"),
+            Matchers.contains("all", "orders", "order", "owner")
+        );
+        MatcherAssert.assertThat(
+            set.best("urn:user:1").get(), Matchers.equalTo("all")
+        );
+    }
+
+    /**
+     * URNPatternSet can remove and replace rules.
+     */
+    @Test
+    void removesRules() {
+        final String pattern = "urn:a:b";
+        final URNPatternSet<String> set = new URNPatternSet<>();
+        set.add(pattern, "x");
+        set.add(pattern, "y");
+        set.add("urn:a:b*", "z");
+        set.remove(pattern, "x");
+        set.remove(pattern, "z");
+        MatcherAssert.assertThat(
+            set.rules(pattern), Matchers.contains("z", "y")
+        );
+        set.remove(pattern, "y");
+        set.remove("urn:a:b*", "z");
+        MatcherAssert.assertThat(set.isEmpty(), Matchers.is(true));
+        set.reset(Collections.singletonMap("urn:c:*", "w"));
+        MatcherAssert.assertThat(
+            set.rules("urn:c:d"), Matchers.contains("w")
+        );
+    }
+
+}
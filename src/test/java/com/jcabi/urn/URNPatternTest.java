@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link URNPattern}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNPatternTest {
+
+    /**
+     * URNPattern can match like URN does, when there are no segment
+     * wildcards.
+     */
+    @Test
+    void matchesLikeUrn() {
+        final String[] texts = {
+            "urn:test:abc", "urn:test:abc?x=1", "urn:test:abc*", "urn:a:b",
+            "urn:test:", "urn:test:ab",
+        };
+        final String[] patterns = {
+            "urn:test:abc", "urn:test:*", "urn:test:abc*", "urn:test:abcd*",
+            "*", "", "urn:test:ab", "urn:test:abc?x=1", "urn:test*abc",
+            "urn:test:abc**",
+        };
+        for (final String text : texts) {
+            for (final String pattern : patterns) {
+                MatcherAssert.assertThat(
+                    String.format("%s ~ %s", text, pattern),
+                    URNPattern.compile(pattern).matches(URN.create(text)),
+                    Matchers.equalTo(URN.create(text).matches(pattern))
+                );
+            }
+        }
+    }
+
+    /**
+     * URNPattern can match segments.
+     * @param pattern The pattern
+     * @param text The text
+     * @param matches Does it match
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "urn:order:*:items, urn:order:42:items, true",
+        "urn:order:*:items, urn:order::items, true",
+        "urn:order:*:items, urn:order:4:2:items, false",
+        "urn:order:*:items, urn:order:42:items2, false",
+        "urn:order:*:items, urn:order:42:items?a=1, false",
+        "urn:order:*:items*, urn:order:42:items?a=1, true",
+        "urn:order:*:*:x, urn:order:1:2:x, true",
+        "urn:order:*:*:x, urn:order:1:x, false",
+        "urn:*:a:*, urn:b:a:c:d, true",
+        "urn:order:*, urn:order:1:2, true",
+        "urn:order:*x:y, urn:order:1x:y, false",
+        "urn:order:*x:y, urn:order:*x:y, true"
+    })
+    void matchesSegments(final String pattern, final String text,
+        final boolean matches) {
+        MatcherAssert.assertThat(
+            URNPattern.compile(pattern).matches(text),
+            Matchers.equalTo(matches)
+        );
+    }
+
+    /**
+     * URNPattern can ignore params.
+     */
+    @Test
+    void ignoresParams() {
+        final URNPattern pattern = URNPattern.compile("urn:order:*:items?x=1")
+            .ignoringParams();
+        MatcherAssert.assertThat(
+            pattern.matches("urn:order:42:items?a=1&b=2"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            pattern.matches("urn:order:42:items"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            pattern.matches("urn:order:42:items:more?a=1"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            pattern,
+            Matchers.not(Matchers.equalTo(URNPattern.compile(pattern.toString())))
+        );
+    }
+
+    /**
+     * URNPattern can keep the trailing asterisk when it ignores params.
+     */
+    @Test
+    void keepsAsteriskWithoutParams() {
+        final URNPattern pattern = URNPattern.compile("urn:a:b?x=1*")
+            .ignoringParams();
+        MatcherAssert.assertThat(
+            pattern.matches("urn:a:b:c?y=2"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            pattern.matches("urn:a:b"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            pattern.matches("urn:a:c"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * URNPattern can refuse NULL.
+     */
+    @Test
+    void refusesNull() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URNPattern.compile(null)
+        );
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link URNPool}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNPoolTest {
+
+    /**
+     * URNPool can return the same instance for equal URNs.
+     */
+    @Test
+    void internsEqualUrns() {
+        final URNPool pool = new URNPool();
+        final URN first = URN.create("urn:test:a?x=1");
+        MatcherAssert.assertThat(
+            pool.intern(URN.create("urn:test:a?x=1")),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+        MatcherAssert.assertThat(
+            pool.intern(first),
+            Matchers.sameInstance(pool.intern(URN.create("urn:test:a?x=1")))
+        );
+        MatcherAssert.assertThat(
+            pool.intern(URN.create("urn:test:b")),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+    }
+
+    /**
+     * URNPool can count hits and misses.
+     */
+    @Test
+    void countsHitsAndMisses() {
+        final URNPool pool = new URNPool();
+        final List<URN> urns = new ArrayList<>(3);
+        urns.add(pool.intern(URN.create("urn:test:1")));
+        urns.add(pool.intern(URN.create("urn:test:2")));
+        urns.add(pool.intern(URN.create("urn:test:1")));
+        urns.add(pool.intern(URN.create("urn:test:1")));
+        MatcherAssert.assertThat(pool.hits(), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(pool.misses(), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(pool.hitRate(), Matchers.equalTo(0.5d));
+        MatcherAssert.assertThat(pool.size(), Matchers.equalTo(urns.size() - 2));
+    }
+
+    /**
+     * URNPool can count interning of a canonical URN as a hit.
+     */
+    @Test
+    void countsCanonicalUrnAsHit() {
+        final URNPool pool = new URNPool();
+        final URN canonical = pool.intern(URN.create("urn:test:3"));
+        MatcherAssert.assertThat(
+            pool.intern(canonical), Matchers.sameInstance(canonical)
+        );
+        MatcherAssert.assertThat(pool.hits(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(pool.misses(), Matchers.equalTo(1L));
+    }
+
+    /**
+     * URNPool can grow and keep all URNs that are still used.
+     */
+    @Test
+    void keepsManyUrns() {
+        final URNPool pool = new URNPool();
+        final int total = 10_000;
+        final List<URN> urns = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            urns.add(pool.intern(URN.create(String.format("urn:test:%d", idx))));
+        }
+        for (int idx = 0; idx < total; ++idx) {
+            MatcherAssert.assertThat(
+                pool.intern(URN.create(String.format("urn:test:%d", idx))),
+                Matchers.sameInstance(urns.get(idx))
+            );
+        }
+        MatcherAssert.assertThat(pool.size(), Matchers.equalTo(total));
+    }
+
+    /**
+     * URNPool can forget URNs that are not used anywhere else.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    void forgetsUnusedUrns() throws Exception {
+        final URNPool pool = new URNPool();
+        for (int idx = 0; idx < 1000; ++idx) {
+            pool.intern(URN.create(String.format("urn:unused:%d", idx)));
+        }
+        for (int attempt = 0; attempt < 100 && pool.size() > 0; ++attempt) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        MatcherAssert.assertThat(pool.size(), Matchers.equalTo(0));
+    }
+
+    /**
+     * URNPool can return the same instance to all threads.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void internsInManyThreads() throws Exception {
+        final URNPool pool = new URNPool();
+        final int threads = 8;
+        final Collection<Callable<URN>> tasks = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            tasks.add(() -> pool.intern(URN.create("urn:test:shared")));
+        }
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<URN>> results = service.invokeAll(tasks);
+            for (final Future<URN> result : results) {
+                MatcherAssert.assertThat(
+                    result.get(),
+                    Matchers.sameInstance(results.get(0).get())
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(pool.size(), Matchers.equalTo(1));
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link URNShardRouter}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNShardRouterTest {
+
+    /**
+     * URNShardRouter can route URNs and texts the same way, ignoring
+     * params.
+     */
+    @Test
+    void ignoresParams() {
+        final URNShardRouter router = new URNShardRouter(1000)
+            .withWeight("tmp", 0.5);
+        for (int idx = 0; idx < 100; ++idx) {
+            final String text = String.format("urn:order:%d", idx);
+            final int shard = router.shard(URN.create(text));
+            MatcherAssert.assertThat(
+                router.shard(URN.create(text).param("v", idx)),
+                Matchers.equalTo(shard)
+            );
+            MatcherAssert.assertThat(
+                router.shard(String.format("%s?a=%d&b=c", text, idx)),
+                Matchers.equalTo(shard)
+            );
+            final String temp = String.format("urn:tmp:%d", idx);
+            MatcherAssert.assertThat(
+                router.shard(URN.create(temp)),
+                Matchers.equalTo(router.shard(temp))
+            );
+        }
+    }
+
+    /**
+     * URNShardRouter can spread URNs evenly.
+     */
+    @Test
+    void spreadsEvenly() {
+        final URNShardRouter router = new URNShardRouter(10);
+        final int[] counts = new int[router.shards()];
+        for (int idx = 0; idx < 10_000; ++idx) {
+            ++counts[router.shard(String.format("urn:user:u%d", idx))];
+        }
+        for (final int count : counts) {
+            MatcherAssert.assertThat(
+                count,
+                Matchers.allOf(
+                    Matchers.greaterThan(850), Matchers.lessThan(1150)
+                )
+            );
+        }
+    }
+
+    /**
+     * URNShardRouter can move only a few URNs, and only to the new shard,
+     * when there are more shards.
+     */
+    @Test
+    void movesFewUrns() {
+        final URNShardRouter before = new URNShardRouter(10);
+        final URNShardRouter after = before.withShards(11);
+        int moved = 0;
+        for (int idx = 0; idx < 10_000; ++idx) {
+            final String text = String.format("urn:user:u%d", idx);
+            final int shard = after.shard(text);
+            if (shard != before.shard(text)) {
+                MatcherAssert.assertThat(shard, Matchers.equalTo(10));
+                ++moved;
+            }
+        }
+        MatcherAssert.assertThat(
+            moved,
+            Matchers.allOf(Matchers.greaterThan(750), Matchers.lessThan(1050))
+        );
+    }
+
+    /**
+     * URNShardRouter can keep URNs of a NID with a weight on a few shards.
+     */
+    @Test
+    void keepsWeightedNidsTogether() {
+        final URNShardRouter router = new URNShardRouter(100)
+            .withWeight("tmp", 0.05);
+        final Set<Integer> temp = new HashSet<>(0);
+        final Set<Integer> users = new HashSet<>(0);
+        for (int idx = 0; idx < 5000; ++idx) {
+            temp.add(router.shard(String.format("urn:tmp:t%d", idx)));
+            users.add(router.shard(String.format("urn:user:u%d", idx)));
+        }
+        MatcherAssert.assertThat(
+            temp.size(),
+            Matchers.allOf(Matchers.greaterThan(1), Matchers.lessThan(6))
+        );
+        MatcherAssert.assertThat(users.size(), Matchers.equalTo(100));
+        MatcherAssert.assertThat(
+            router.toString(), Matchers.containsString("tmp=0.05")
+        );
+    }
+
+    /**
+     * URNShardRouter can reject wrong arguments.
+     */
+    @Test
+    void rejectsWrongArguments() {
+        final URNShardRouter router = new URNShardRouter(1);
+        MatcherAssert.assertThat(
+            router.shard("urn:test:x"), Matchers.equalTo(0)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new URNShardRouter(0)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> router.withWeight("Test", 0.5)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> router.withWeight("test", 1.5)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> router.shard("urn:test:a b")
+        );
+    }
+}
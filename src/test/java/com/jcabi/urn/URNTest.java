@@ -29,12 +29,19 @@
  */
 package com.jcabi.urn;
 
+import java.io.InvalidObjectException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.apache.commons.lang3.SerializationException;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -47,7 +54,7 @@ import org.junit.jupiter.api.Test;
  * @since 0.6
  * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
  */
-@SuppressWarnings("PMD.TooManyMethods")
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.AvoidDuplicateLiterals"})
 final class URNTest {
 
     /**
@@ -76,6 +83,19 @@ final class URNTest {
         );
     }
 
+    /**
+     * URN can encode control characters in NSS.
+     */
+    @Test
+    void encodesControlCharactersInNss() {
+        final URN urn = new URN("test", "line\nfeed");
+        MatcherAssert.assertThat(
+            urn.toString(),
+            Matchers.equalTo("urn:test:line%0Afeed")
+        );
+        MatcherAssert.assertThat(urn.nss(), Matchers.equalTo("line\nfeed"));
+    }
+
     /**
      * URN can throw exception when text is NULL.
      */
@@ -229,8 +249,11 @@ final class URNTest {
             "urn:verylongnameofanamespaceverylongnameofanamespace:",
             "urn:test:spaces are not allowed here",
             "urn:test:unicode-has-to-be-encoded:\u8514",
+            "urn\u001Afoo:bar",
+            "URN\u001Afoo:bar",
         };
         for (final String text : texts) {
+            MatcherAssert.assertThat(text, !URN.isValid(text));
             try {
                 URN.create(text);
                 MatcherAssert.assertThat(text, Matchers.nullValue());
@@ -240,6 +263,90 @@ final class URNTest {
         }
     }
 
+    /**
+     * URN can parse text without exceptions.
+     */
+    @Test
+    void parsesWithoutExceptions() {
+        MatcherAssert.assertThat(
+            URN.tryParse(new StringBuilder("urn:test:x?y=1")).get().nid(),
+            Matchers.equalTo("test")
+        );
+        MatcherAssert.assertThat(
+            URN.tryParse("urn:test:a b").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * URN can validate a range of text and explain what is wrong.
+     */
+    @Test
+    void validatesRangeOfText() {
+        final String text = "id=urn:test:a%2x;";
+        final Verdict verdict = URN.validate(text, 3, text.length() - 1);
+        MatcherAssert.assertThat(
+            verdict.defect(),
+            Matchers.equalTo(Verdict.Defect.NSS)
+        );
+        MatcherAssert.assertThat(
+            verdict.position(),
+            Matchers.equalTo(text.indexOf('x'))
+        );
+        MatcherAssert.assertThat(
+            URN.validate(text, 3, text.indexOf('%')).valid(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * URN can reject reserved and empty NIDs without exceptions.
+     */
+    @Test
+    void rejectsReservedNidWithoutExceptions() {
+        MatcherAssert.assertThat(
+            URN.isValid("urn:urn:hello"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            URN.validate("urn:void:x", 0, 10).defect(),
+            Matchers.equalTo(Verdict.Defect.EMPTY)
+        );
+    }
+
+    /**
+     * URN can be made from a trusted text without validation.
+     */
+    @Test
+    void makesFromTrustedText() {
+        final String text = "urn:test:a:b?c=%20";
+        final URN urn = URN.trusted(text);
+        MatcherAssert.assertThat(urn, Matchers.equalTo(URN.create(text)));
+        MatcherAssert.assertThat(urn.nid(), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(urn.nss(), Matchers.equalTo("a:b?c= "));
+        MatcherAssert.assertThat(urn.param("c"), Matchers.equalTo(" "));
+        MatcherAssert.assertThat(
+            Composer.trusted("urn:test:x*", false).hasParams(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * URN can validate a trusted text, if asked to.
+     */
+    @Test
+    void validatesTrustedTextWhenAsked() {
+        final String text = "urn:test:a b";
+        MatcherAssert.assertThat(
+            Composer.trusted(text, false).toString(),
+            Matchers.equalTo(text)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Composer.trusted(text, true)
+        );
+    }
+
     /**
      * URN can be "empty".
      */
@@ -302,6 +409,281 @@ final class URNTest {
         MatcherAssert.assertThat(urn.param(name), Matchers.equalTo(value));
     }
 
+    /**
+     * URN can report malformed UTF-8 in its escapes and missing params
+     * with {@link IllegalArgumentException}.
+     */
+    @Test
+    void reportsMalformedEscapes() {
+        final URN urn = URN.create("urn:a:b?y=%FF");
+        final IllegalArgumentException missing = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.param("x")
+        );
+        MatcherAssert.assertThat(
+            missing.getMessage(),
+            Matchers.equalTo(
+                "Param 'x' not found in 'urn:a:b?y=%FF', among [y]"
+            )
+        );
+        Assertions.assertThrows(IllegalArgumentException.class, urn::nss);
+        Assertions.assertThrows(IllegalArgumentException.class, urn::params);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.param("y")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.param("z", "1")
+        );
+    }
+
+    /**
+     * URN can read params as numbers and booleans.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void readsTypedParams() throws Exception {
+        final URN urn = new URN(
+            "urn:test:x?v=123&page=-4&big=8589934592&on=TRUE&off=no&e=%31%32"
+        );
+        MatcherAssert.assertThat(urn.paramAsLong("v"), Matchers.equalTo(123L));
+        MatcherAssert.assertThat(urn.paramAsInt("page"), Matchers.equalTo(-4));
+        MatcherAssert.assertThat(urn.paramAsInt("e"), Matchers.equalTo(12));
+        MatcherAssert.assertThat(urn.paramAsBoolean("on"), Matchers.is(true));
+        MatcherAssert.assertThat(urn.paramAsBoolean("off"), Matchers.is(false));
+        Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> urn.paramAsInt("big")
+        );
+        Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> urn.paramAsLong("off")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.paramAsLong("absent")
+        );
+    }
+
+    /**
+     * URN can keep the case of its prefix when a param is added.
+     */
+    @Test
+    void keepsCaseOfPrefixWithNewParams() {
+        final URN urn = URN.create("URN:a:b?x=1");
+        MatcherAssert.assertThat(
+            urn.param("z", "q r").toString(),
+            Matchers.equalTo("URN:a:b?x=1&z=q%20r")
+        );
+        MatcherAssert.assertThat(
+            urn.pure().toString(),
+            Matchers.equalTo("URN:a:b")
+        );
+        MatcherAssert.assertThat(
+            new URN.Builder(URN.create("uRn:a:b")).withNss("c").build()
+                .toString(),
+            Matchers.equalTo("uRn:a:c")
+        );
+    }
+
+    /**
+     * URN can refuse to parse or build texts that don't fit into limits.
+     */
+    @Test
+    void refusesTooBigUrns() {
+        final String nss = StringUtils.repeat("x", Limits.NSS + 1);
+        Assertions.assertThrows(
+            URISyntaxException.class,
+            () -> new URN(String.format("urn:test:%s", nss))
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new URN("test", nss)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new URN.Builder("test").withNss(nss).build()
+        );
+        final URN.Builder builder = new URN.Builder("test").withNss("x");
+        for (int idx = 0; idx <= Limits.PARAMS; ++idx) {
+            builder.withParam(String.format("p%d", idx), idx);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+        MatcherAssert.assertThat(
+            URN.isValid(StringUtils.repeat("urn:a:b", Limits.LENGTH)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * URN can refuse to add params after the trailing asterisk.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void refusesToAddParamsAfterAsterisk() throws Exception {
+        final URN urn = new URN("urn:test:abc*");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.param("x", 1)
+        );
+    }
+
+    /**
+     * URN can share NIDs and their ordinals.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void sharesNids() throws Exception {
+        final URN made = new URN("shared", "b");
+        final URN urn = new URN("urn:shared:a?b=c");
+        MatcherAssert.assertThat(
+            made.nid(),
+            Matchers.sameInstance(urn.nid())
+        );
+        MatcherAssert.assertThat(
+            urn.pure().nidOrdinal(),
+            Matchers.allOf(
+                Matchers.equalTo(URN.create("urn:shared:c").nidOrdinal()),
+                Matchers.greaterThan(0)
+            )
+        );
+        MatcherAssert.assertThat(new URN().nidOrdinal(), Matchers.equalTo(0));
+        MatcherAssert.assertThat(
+            URN.trusted("urn:NOT-VALID:x").nidOrdinal(),
+            Matchers.equalTo(-1)
+        );
+        MatcherAssert.assertThat(
+            URN.create("urn:unshared:x").nidOrdinal(),
+            Matchers.equalTo(-1)
+        );
+        final URN parsed = URN.create("urn:unshared:y");
+        MatcherAssert.assertThat(
+            parsed.nid(), Matchers.sameInstance(parsed.nid())
+        );
+        MatcherAssert.assertThat(
+            new URN.Builder("unshared").build().nidOrdinal(),
+            Matchers.greaterThan(0)
+        );
+    }
+
+    /**
+     * URN can be parsed from bytes and buffers.
+     */
+    @Test
+    void parsesBytes() {
+        final byte[] bytes = "(urn:test:a%20b?c=1)".getBytes(
+            StandardCharsets.US_ASCII
+        );
+        final URN urn = URN.create("urn:test:a%20b?c=1");
+        MatcherAssert.assertThat(
+            URN.parse(bytes, 1, bytes.length - 2),
+            Matchers.equalTo(urn)
+        );
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(1).limit(bytes.length - 1);
+        final URN parsed = URN.parse(direct);
+        MatcherAssert.assertThat(parsed, Matchers.equalTo(urn));
+        MatcherAssert.assertThat(parsed.param("c"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(direct.position(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(URN.isValid(direct), Matchers.is(true));
+        MatcherAssert.assertThat(
+            URN.isValid(bytes, 0, bytes.length),
+            Matchers.is(false)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URN.parse(bytes, 0, bytes.length)
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> URN.isValid(bytes, 2, bytes.length)
+        );
+    }
+
+    /**
+     * URN can refuse non-ASCII bytes.
+     */
+    @Test
+    void refusesNonAsciiBytes() {
+        final byte[] bytes = "urn:test:\u00e9".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            URN.isValid(ByteBuffer.wrap(bytes)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * URN can write itself to buffers.
+     */
+    @Test
+    void writesToBuffers() {
+        final URN urn = URN.create("urn:test:x?y=%20");
+        for (final ByteBuffer buffer : new ByteBuffer[] {
+            ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32),
+        }) {
+            buffer.put((byte) '>');
+            urn.writeTo(buffer);
+            MatcherAssert.assertThat(
+                buffer.position(),
+                Matchers.equalTo(urn.toString().length() + 1)
+            );
+            buffer.flip().position(1);
+            MatcherAssert.assertThat(URN.parse(buffer), Matchers.equalTo(urn));
+        }
+        Assertions.assertThrows(
+            BufferOverflowException.class,
+            () -> urn.writeTo(ByteBuffer.allocate(4))
+        );
+    }
+
+    /**
+     * URN can write itself and its decoded parts to appendables.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void writesToAppendables() throws Exception {
+        final URN urn = URN.create("urn:test:a%20b%F0%9F%98%80?x=%2F1&y");
+        final StringBuilder builder = new StringBuilder(">");
+        urn.writeTo(builder);
+        urn.nssTo(builder);
+        urn.paramTo("x", builder);
+        urn.paramTo("y", builder);
+        MatcherAssert.assertThat(
+            builder.toString(),
+            Matchers.equalTo(
+                String.join("", ">", urn.toString(), urn.nss(), "/1")
+            )
+        );
+        final StringWriter writer = new StringWriter();
+        urn.nssTo(writer);
+        urn.paramTo("x", writer);
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.equalTo(urn.nss().concat(urn.param("x")))
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> urn.paramTo("z", writer)
+        );
+    }
+
+    /**
+     * URN can intern itself.
+     */
+    @Test
+    void internsItself() {
+        final URN urn = URN.create("urn:test:interned").intern();
+        MatcherAssert.assertThat(
+            URN.create("urn:test:interned").intern(),
+            Matchers.sameInstance(urn)
+        );
+        MatcherAssert.assertThat(
+            URN.pool().size(),
+            Matchers.greaterThan(0)
+        );
+    }
+
     /**
      * URN can fetch a pure part (without params) from itself.
      * @throws Exception If there is some problem inside
@@ -328,6 +710,135 @@ final class URNTest {
         );
     }
 
+    /**
+     * URN can find its parts after deserialization.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void findsPartsAfterDeserialization() throws Exception {
+        final URN urn = SerializationUtils.roundtrip(
+            new URN("urn:test:data?x=1")
+        );
+        MatcherAssert.assertThat(urn.nid(), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(urn.hasParams(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            urn.pure(),
+            Matchers.equalTo(new URN("urn:test:data"))
+        );
+    }
+
+    /**
+     * URN can be deserialized even if it exceeds the limits.
+     */
+    @Test
+    void deserializesBeyondLimits() {
+        final String text = String.format(
+            "urn:test:%s", StringUtils.repeat('a', Limits.NSS + 1)
+        );
+        final URN urn = SerializationUtils.roundtrip(
+            new URN(text, 8, text.length())
+        );
+        MatcherAssert.assertThat(urn.toString(), Matchers.equalTo(text));
+        MatcherAssert.assertThat(urn.nid(), Matchers.equalTo("test"));
+    }
+
+    /**
+     * URN can refuse to be deserialized if its syntax is broken.
+     */
+    @Test
+    void refusesBrokenSyntaxOnDeserialization() {
+        final byte[] bytes = SerializationUtils.serialize(
+            new URN("urn:test:a b", 8, 12)
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                SerializationException.class,
+                () -> SerializationUtils.deserialize(bytes)
+            ).getCause(),
+            Matchers.instanceOf(InvalidObjectException.class)
+        );
+    }
+
+    /**
+     * URN can return itself as a pure part, if it has no params.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void returnsItselfWhenPureAlready() throws Exception {
+        final URN urn = new URN("urn:test:a:b:c*");
+        MatcherAssert.assertThat(urn.pure(), Matchers.sameInstance(urn));
+        MatcherAssert.assertThat(urn.hasParams(), Matchers.is(false));
+    }
+
+    /**
+     * URN can find NID and NSS when NSS contains colons.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void findsNidAndNssWithColons() throws Exception {
+        final URN urn = new URN("URN:abc:x:y:z");
+        MatcherAssert.assertThat(urn.nid(), Matchers.equalTo("abc"));
+        MatcherAssert.assertThat(urn.nss(), Matchers.equalTo("x:y:z"));
+        MatcherAssert.assertThat(urn.isEmpty(), Matchers.is(false));
+    }
+
+    /**
+     * URN can calculate its views only once.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void calculatesViewsOnlyOnce() throws Exception {
+        final URN urn = new URN("urn:test:a%20b?x=1&y=%2F");
+        MatcherAssert.assertThat(urn.nss(), Matchers.sameInstance(urn.nss()));
+        MatcherAssert.assertThat(
+            urn.params(),
+            Matchers.sameInstance(urn.params())
+        );
+        MatcherAssert.assertThat(
+            urn.toURI(),
+            Matchers.sameInstance(urn.toURI())
+        );
+        MatcherAssert.assertThat(
+            urn.hashCode(),
+            Matchers.equalTo(new URN(urn.toString()).hashCode())
+        );
+    }
+
+    /**
+     * URN can protect its params from changes.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void protectsParamsFromChanges() throws Exception {
+        final URN urn = new URN("urn:test:x?a=1");
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> urn.params().put("b", "2")
+        );
+        MatcherAssert.assertThat(
+            urn.param("b", "2").params().keySet(),
+            Matchers.contains("a", "b")
+        );
+    }
+
+    /**
+     * URN can be serialized without its cached views.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void serializesWithoutCachedViews() throws Exception {
+        final String text = "urn:test:data?p=1";
+        final URN urn = new URN(text);
+        urn.nss();
+        urn.params();
+        urn.toURI();
+        urn.hashCode();
+        MatcherAssert.assertThat(
+            SerializationUtils.serialize(urn),
+            Matchers.equalTo(SerializationUtils.serialize(new URN(text)))
+        );
+    }
+
     /**
      * URN can be persistent in params ordering.
      * @throws Exception If there is some problem inside
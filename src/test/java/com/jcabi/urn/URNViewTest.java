@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Test case for {@link URNView}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNViewTest {
+
+    /**
+     * URNView can read parts of the URN right from the bytes.
+     */
+    @Test
+    void readsParts() {
+        final byte[] bytes = "[urn:test:a%20b?x=1&y=%2F]"
+            .getBytes(StandardCharsets.US_ASCII);
+        final URNView view = new URNView().wrap(bytes, 1, bytes.length - 2);
+        MatcherAssert.assertThat(view.nid(), Matchers.equalTo("test"));
+        MatcherAssert.assertThat(
+            view.nss(new StringBuilder()).toString(),
+            Matchers.equalTo(URN.create("urn:test:a%20b?x=1&y=%2F").nss())
+        );
+        MatcherAssert.assertThat(view.hasParams(), Matchers.is(true));
+        MatcherAssert.assertThat(view.hasParam("x"), Matchers.is(true));
+        MatcherAssert.assertThat(view.hasParam("z"), Matchers.is(false));
+        MatcherAssert.assertThat(
+            view.param("y", new StringBuilder(">")).toString(),
+            Matchers.equalTo(">/")
+        );
+        MatcherAssert.assertThat(
+            view.toURN(),
+            Matchers.equalTo(URN.create("urn:test:a%20b?x=1&y=%2F"))
+        );
+    }
+
+    /**
+     * URNView can be wrapped around new bytes, again and again.
+     */
+    @Test
+    void wrapsAgain() {
+        final URNView view = new URNView();
+        final byte[] bytes = "..urn:isbn:1234".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(1);
+        for (final ByteBuffer buffer
+            : new ByteBuffer[] {ByteBuffer.wrap(bytes).position(1), direct}) {
+            view.wrap("urn:a:b".getBytes(StandardCharsets.US_ASCII), 0, 7);
+            MatcherAssert.assertThat(view.nid(), Matchers.equalTo("a"));
+            view.wrap(buffer, 2, bytes.length - 2);
+            MatcherAssert.assertThat(view.nid(), Matchers.equalTo("isbn"));
+            MatcherAssert.assertThat(
+                view.toString(), Matchers.equalTo("urn:isbn:1234")
+            );
+            MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(1));
+        }
+    }
+
+    /**
+     * URNView can match patterns and compare with URNs like URN does.
+     */
+    @Test
+    void matchesLikeUrn() {
+        final String text = "urn:test:abc";
+        final URNView view = new URNView().wrap(
+            text.getBytes(StandardCharsets.US_ASCII), 0, text.length()
+        );
+        final URN urn = URN.create(text);
+        final String[] patterns = {
+            text, "urn:test:*", "urn:test:abc*", "urn:test:abcd*",
+            "urn:test:x", "*", "", "urn:test:ab",
+        };
+        for (final String pattern : patterns) {
+            MatcherAssert.assertThat(
+                pattern,
+                view.matches(pattern),
+                Matchers.equalTo(urn.matches(pattern))
+            );
+        }
+        final String[] others = {
+            text, "urn:test:ab", "urn:test:abd", "urn:a:z",
+        };
+        for (final String other : others) {
+            MatcherAssert.assertThat(
+                other,
+                Integer.signum(view.compareTo(URN.create(other))),
+                Matchers.equalTo(
+                    Integer.signum(urn.compareTo(URN.create(other)))
+                )
+            );
+        }
+    }
+
+    /**
+     * URNView can refuse invalid bytes.
+     */
+    @Test
+    void refusesInvalidBytes() {
+        final URNView view = new URNView();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> view.wrap(
+                "urn:a:b c".getBytes(StandardCharsets.US_ASCII), 0, 9
+            )
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> view.wrap(new byte[4], 2, 3)
+        );
+        Assertions.assertThrows(IllegalStateException.class, view::nid);
+    }
+
+    /**
+     * URNView can refuse to read anything until it is wrapped.
+     */
+    @Test
+    void refusesToWorkUnwrapped() {
+        final URNView view = new URNView();
+        final Executable[] calls = {
+            view::nid,
+            view::nidOrdinal,
+            () -> view.nss(new StringBuilder(0)),
+            view::hasParams,
+            () -> view.hasParam("x"),
+            () -> view.param("x", new StringBuilder(0)),
+            view::isEmpty,
+            view::text,
+            view::length,
+            () -> view.matches("urn:*"),
+            () -> view.compareTo(URN.create("urn:a:b")),
+            view::toURN,
+        };
+        for (final Executable call : calls) {
+            Assertions.assertThrows(IllegalStateException.class, call);
+        }
+        MatcherAssert.assertThat(view.toString(), Matchers.equalTo(""));
+        final byte[] bytes = "urn:a:b".getBytes(StandardCharsets.US_ASCII);
+        view.wrap(bytes, 0, bytes.length);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> view.wrap(bytes, 0, 3)
+        );
+        Assertions.assertThrows(IllegalStateException.class, view::toURN);
+    }
+
+}
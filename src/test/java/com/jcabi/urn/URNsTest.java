@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link URNs}.
+ *
+ * @since 1.0
+ * @checkstyle AbbreviationAsWordInNameCheck (500 lines)
+ */
+final class URNsTest {
+
+    /**
+     * URNs can make xxHash64 fingerprints of texts.
+     * @param text The text
+     * @param hex Its xxHash64, in hex
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "'', ef46db3751d8e999",
+        "a, d24ec4f1a98c6e5b",
+        "abc, 44bc2cf5ad770999",
+        "Nobody inspects the spammish repetition, fbcea83c8a378bf1",
+        "urn:test:a1b2c3, d74317ede9022d1c",
+        "urn:intl:世界, eeaf533b6bad6885"
+    })
+    void makesFingerprints(final String text, final String hex) {
+        final long expected = Long.parseUnsignedLong(hex, 16);
+        MatcherAssert.assertThat(
+            URNs.fingerprint64(text), Matchers.equalTo(expected)
+        );
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            URNs.fingerprint64(bytes, 0, bytes.length),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * URNs can make the same fingerprints as URN does, over ranges.
+     */
+    @Test
+    void agreesWithUrns() {
+        final Random random = new Random(0L);
+        final StringBuilder nss = new StringBuilder("urn:order:");
+        for (int idx = 0; idx < 100; ++idx) {
+            nss.append((char) ('a' + random.nextInt(26)));
+            final URN urn = URN.create(nss.toString());
+            final byte[] bytes = String.format("[%s]", urn)
+                .getBytes(StandardCharsets.US_ASCII);
+            MatcherAssert.assertThat(
+                urn.fingerprint64(),
+                Matchers.allOf(
+                    Matchers.equalTo(URNs.fingerprint64(nss)),
+                    Matchers.equalTo(
+                        URNs.fingerprint64(bytes, 1, bytes.length - 2)
+                    )
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            URN.create(
+                "urn:order:abcdefghijabcdefghijabcdefghijabcdefghijabcdefghij"
+                    .concat("abcdefghijabcdefghijabcdefghijabcdefghijabcdefghij")
+            ).fingerprint64(),
+            Matchers.equalTo(Long.parseUnsignedLong("f421b1600e17e85a", 16))
+        );
+    }
+
+    /**
+     * URNs can sort URNs in the order of their texts.
+     */
+    @Test
+    void sortsUrns() {
+        final Random random = new Random(0L);
+        final URN[] urns = new URN[20_000];
+        for (int idx = 0; idx < urns.length; ++idx) {
+            final StringBuilder text = new StringBuilder(0);
+            for (final char chr : "urn".toCharArray()) {
+                if (random.nextInt(8) == 0) {
+                    text.append(Character.toUpperCase(chr));
+                } else {
+                    text.append(chr);
+                }
+            }
+            text.append(
+                String.format(
+                    ":%s:%s", "abcdefgh".substring(random.nextInt(7)),
+                    "tenant:t1:order:".substring(0, random.nextInt(17))
+                )
+            );
+            for (int chr = random.nextInt(12) + 1; chr > 0; --chr) {
+                text.append((char) ('0' + random.nextInt(3)));
+            }
+            urns[idx] = Composer.trusted(text.toString(), true);
+        }
+        final URN[] expected = urns.clone();
+        Arrays.sort(expected, Comparator.comparing(URN::toString));
+        URNs.sort(urns);
+        MatcherAssert.assertThat(urns, Matchers.equalTo(expected));
+        URNs.sort();
+        final URN one = URN.create("urn:test:x");
+        final URN[] single = {one};
+        URNs.sort(single);
+        MatcherAssert.assertThat(single[0], Matchers.sameInstance(one));
+    }
+
+    /**
+     * URNs can compare URNs by their abbreviated keys first, in the same
+     * order as their texts.
+     */
+    @Test
+    void comparesLikeTexts() {
+        final String[] texts = {
+            "URN:a:b", "Urn:a:b", "urn:a:b", "urn:a:b?x=1", "urn:a:b0",
+            "urn:ab:c", "urn:abcdefg:a", "urn:abcdefg:b", "urn:abcdefgh:a",
+        };
+        for (final String left : texts) {
+            for (final String right : texts) {
+                MatcherAssert.assertThat(
+                    String.format("%s vs %s", left, right),
+                    Integer.signum(
+                        URN.create(left).compareTo(URN.create(right))
+                    ),
+                    Matchers.equalTo(Integer.signum(left.compareTo(right)))
+                );
+            }
+        }
+    }
+
+    /**
+     * URNs can reject wrong arguments.
+     */
+    @Test
+    void rejectsWrongArguments() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> URNs.fingerprint64(null)
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> URNs.fingerprint64(new byte[4], 2, 3)
+        );
+    }
+}
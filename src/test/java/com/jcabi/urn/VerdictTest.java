@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012-2025, jcabi.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.urn;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Verdict}.
+ *
+ * @since 1.0
+ */
+final class VerdictTest {
+
+    /**
+     * Verdict can explain the defect in plain text.
+     */
+    @Test
+    void explainsDefect() {
+        MatcherAssert.assertThat(
+            URN.validate("URN:Test:x", 0, 10).toString(),
+            Matchers.equalTo(
+                "NID can contain up to 31 low case letters at position 4"
+            )
+        );
+    }
+
+    /**
+     * Verdict can report a valid URN.
+     */
+    @Test
+    void reportsValidUrn() {
+        final Verdict verdict = URN.validate("urn:test:x*", 0, 11);
+        MatcherAssert.assertThat(verdict.valid(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            verdict.defect(),
+            Matchers.equalTo(Verdict.Defect.NONE)
+        );
+        MatcherAssert.assertThat(verdict.position(), Matchers.equalTo(-1));
+    }
+
+    /**
+     * Verdict can find a text after the trailing asterisk.
+     */
+    @Test
+    void findsTextAfterAsterisk() {
+        MatcherAssert.assertThat(
+            URN.validate("urn:test:?a=b*c", 0, 15),
+            Matchers.equalTo(new Verdict(Verdict.Defect.TRAILER, 14))
+        );
+    }
+
+    /**
+     * Verdict can differ from verdicts with other defect or position.
+     */
+    @Test
+    void differsByDefectAndPosition() {
+        final Verdict verdict = new Verdict(Verdict.Defect.NSS, 10);
+        MatcherAssert.assertThat(
+            verdict,
+            Matchers.allOf(
+                Matchers.equalTo(URN.validate("urn:test:a b", 0, 12)),
+                Matchers.not(
+                    Matchers.equalTo(new Verdict(Verdict.Defect.QUERY, 10))
+                ),
+                Matchers.not(
+                    Matchers.equalTo(new Verdict(Verdict.Defect.NSS, 11))
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            verdict.hashCode(),
+            Matchers.not(
+                Matchers.equalTo(new Verdict(Verdict.Defect.NSS, 11).hashCode())
+            )
+        );
+    }
+
+}